@@ -8,6 +8,7 @@ from sklearn.linear_model import LinearRegression
 import uvicorn
 import random
 import numpy as np
+from typing import Optional
 from contextlib import asynccontextmanager # lifespan을 위한 모듈
 
 # --- [추가] 터미널 인코딩 에러 방지 설정 (CP949 환경 대응) ---
@@ -264,6 +265,53 @@ def recommend_music(req: DjRequest):
     }
 
 
+
+# ================= 묶음 요청 (체감온도 + 브리핑 + DJ + 옷차림 한 번에) =================
+# 대시보드 1회에 필요한 AI 결과를 HTTP 한 번으로 돌려줍니다.
+# 각 항목은 따로 계산하며, 실패하거나 입력이 없는 항목은 None 으로 두어 자바 쪽에서 항목별 Fallback 을 씁니다.
+
+class BundleRequest(BaseModel):
+    temp: Optional[float] = None  # 기온 (숫자)
+    hum: Optional[float] = None   # 습도
+    wind: Optional[float] = None  # 풍속
+    tmp: Optional[str] = None     # 기온 (화면 표시 문자열, 브리핑용)
+    sky: Optional[str] = None     # 하늘상태
+    pty: Optional[str] = None     # 강수형태
+    pop: Optional[str] = None     # 강수확률
+    hour: int = 12                # 현재 시간 (0~23)
+
+@app.post("/bundle")
+def bundle(req: BundleRequest):
+    pty = req.pty or "0"
+    sky = req.sky or "맑음"
+    result = {"sensible_temp": None, "script": None, "videoId": None, "comment": None, "recommendation": None}
+
+    if req.temp is not None and req.hum is not None and req.wind is not None:
+        try:
+            result.update(predict_sensible_temp(SensibleRequest(temp=req.temp, hum=req.hum, wind=req.wind)))
+        except Exception as e:
+            print(f"[bundle] 체감온도 실패: {e}")
+
+    if req.tmp is not None and req.sky is not None and req.pty is not None and req.pop is not None:
+        try:
+            result.update(generate_briefing(BriefingRequest(temp=req.tmp, sky=req.sky, pty=req.pty, pop=req.pop)))
+        except Exception as e:
+            print(f"[bundle] 브리핑 실패: {e}")
+
+    try:
+        result.update(recommend_music(DjRequest(pty=pty, sky=sky, hour=req.hour)))
+    except Exception as e:
+        print(f"[bundle] DJ 실패: {e}")
+
+    if req.temp is not None:
+        try:
+            result.update(predict_outfit(WeatherRequest(temp=req.temp, pty=req.pty or "0")))
+        except Exception as e:
+            print(f"[bundle] 옷차림 실패: {e}")
+
+    return result
+
+
 # 서버 실행
 if __name__ == "__main__":
     uvicorn.run(app, host="0.0.0.0", port=5000)
\ No newline at end of file
@@ -0,0 +1,80 @@
+import os
+import struct
+import sys
+
+import joblib
+import numpy as np
+
+# ==================================================================================
+# [모델 내보내기] RandomForestRegressor(solar_model.pkl) -> Java 용 평면 배열 파일(solar_model.bin)
+# ==================================================================================
+# Java(ForestModel.java)가 파이썬 없이 같은 예측값을 내도록, 모든 나무의 노드를 하나의 배열로 이어 붙여 저장합니다.
+#
+# 파일 구조 (little-endian, 각 구간은 8바이트 경계로 정렬)
+#   magic      : b'SRF1'
+#   int32      : version (1)
+#   int32      : n_features
+#   int32      : n_trees
+#   int32      : n_nodes (모든 나무의 노드 수 합)
+#   int32[n_trees]  : 나무별 루트 노드 번호
+#   int32[n_nodes]  : feature   (분기에 사용하는 특징 번호, 잎 노드는 -2)
+#   float64[n_nodes]: threshold (X[feature] <= threshold 이면 왼쪽)
+#   int32[n_nodes]  : left      (왼쪽 자식 노드 번호, 잎 노드는 -1)
+#   int32[n_nodes]  : right     (오른쪽 자식 노드 번호, 잎 노드는 -1)
+#   float64[n_nodes]: value     (잎 노드의 예측값)
+#
+# ※ sklearn 은 입력을 float32 로 바꾼 뒤 float64 threshold 와 비교하므로, Java 도 같은 방식으로 비교합니다.
+
+MAGIC = b'SRF1'
+VERSION = 1
+
+
+def _pad(f):
+    remainder = f.tell() % 8
+    if remainder:
+        f.write(b'\x00' * (8 - remainder))
+
+
+def export_forest(model, save_path):
+    trees = [estimator.tree_ for estimator in model.estimators_]
+    n_nodes = sum(tree.node_count for tree in trees)
+
+    roots = np.zeros(len(trees), dtype='<i4')
+    feature = np.zeros(n_nodes, dtype='<i4')
+    threshold = np.zeros(n_nodes, dtype='<f8')
+    left = np.zeros(n_nodes, dtype='<i4')
+    right = np.zeros(n_nodes, dtype='<i4')
+    value = np.zeros(n_nodes, dtype='<f8')
+
+    offset = 0
+    for i, tree in enumerate(trees):
+        count = tree.node_count
+        roots[i] = offset
+        feature[offset:offset + count] = tree.feature
+        threshold[offset:offset + count] = tree.threshold
+        # 자식 번호를 전체 배열 기준(절대 번호)으로 변환, 잎 노드(-1)는 그대로 유지
+        left[offset:offset + count] = np.where(tree.children_left >= 0, tree.children_left + offset, -1)
+        right[offset:offset + count] = np.where(tree.children_right >= 0, tree.children_right + offset, -1)
+        value[offset:offset + count] = tree.value[:, 0, 0]
+        offset += count
+
+    with open(save_path, 'wb') as f:
+        f.write(MAGIC)
+        f.write(struct.pack('<iiii', VERSION, model.n_features_in_, len(trees), n_nodes))
+        for array in (roots, feature, threshold, left, right, value):
+            _pad(f)
+            f.write(array.tobytes())
+
+    print(f"💾 Java 용 모델 파일 저장: {save_path} (나무 {len(trees)}그루, 노드 {n_nodes}개)")
+
+
+if __name__ == "__main__":
+    current_folder = os.path.dirname(os.path.abspath(__file__))
+    model_path = os.path.join(current_folder, 'data', 'solar_model.pkl')
+    save_path = os.path.join(current_folder, 'data', 'solar_model.bin')
+
+    if not os.path.exists(model_path):
+        print("❌ 에러: solar_model.pkl 파일이 없습니다. train_model.py 를 먼저 실행하세요.")
+        sys.exit(1)
+
+    export_forest(joblib.load(model_path), save_path)
@@ -58,29 +58,33 @@ if not os.path.exists(model_path):
 model = joblib.load(model_path)
 
 # ---------------------------------------------------------
-# 2. 일사량 계산기
+# 2. 일사량 (Spring 서버 IrradianceEngine 계산값 사용)
 # ---------------------------------------------------------
-def calculate_theoretical_radiation(lat, lon, date, hour, cloud_cover_score):
-    doy = date.timetuple().tm_yday
-    declination = 23.45 * math.sin(math.radians(360 * (284 + doy) / 365))
-    hour_angle = (hour - 12) * 15
+# 일사량/일조 식은 Java(IrradianceEngine) 한 곳에만 두고, 봇은 같은 서버의 /api/irradiance 로 받아 씁니다.
+# (TelegramBotRunner 가 서버 기동 완료 후 실제 포트/컨텍스트 경로로 SOLAR_SERVER_URL 을 넘겨 이 봇을 띄움)
+SOLAR_SERVER_URL = os.environ.get("SOLAR_SERVER_URL", "http://localhost:8080").rstrip("/")
+IRRADIANCE_ERROR = "[오류] 일사량 계산 서버에 연결하지 못했습니다."
 
-    lat_rad = math.radians(lat)
-    dec_rad = math.radians(declination)
-    ha_rad = math.radians(hour_angle)
-
-    sin_elevation = (math.sin(lat_rad) * math.sin(dec_rad)) + \
-                    (math.cos(lat_rad) * math.cos(dec_rad) * math.cos(ha_rad))
-    elevation = math.degrees(math.asin(max(0, sin_elevation)))
-
-    if elevation <= 0: return 0.0, 0.0
-
-    max_radiation = 3.6 * math.sin(math.radians(elevation))
-    cloud_factor = 1.0 - (cloud_cover_score / 10.0 * 0.7)
-    estimated_radiation = max_radiation * cloud_factor
-    estimated_sunshine = 1.0 if cloud_cover_score <= 5 else 0.0
-
-    return round(estimated_radiation, 2), estimated_sunshine
+# 실패 시 (None, None)
+def fetch_irradiance(lat, date, cloud_cover_score, first_hour=6, last_hour=19):
+    params = {
+        "lat": lat,
+        "date": date.strftime("%Y%m%d"),
+        "cloud": cloud_cover_score,
+        "fromHour": first_hour,
+        "toHour": last_hour
+    }
+    try:
+        response = requests.get(SOLAR_SERVER_URL + "/api/irradiance", params=params, timeout=5)
+        response.raise_for_status()
+        res = response.json()
+        if 'error' in res:
+            print(f"[일사량 오류] {res['error']}", file=sys.stderr)
+            return None, None
+        return res['radiation'], res['sunshine']
+    except Exception as e:
+        print(f"[일사량 오류] {SOLAR_SERVER_URL} 연결 실패: {e}", file=sys.stderr)
+        return None, None
 
 # ---------------------------------------------------------
 # 3. 기상청 API
@@ -174,12 +178,11 @@ def get_kma_weather_full(lat, lon):
 
             sky_code = int(data_12['SKY'])
             cloud = 0 if sky_code == 1 else (5 if sky_code == 3 else 10)
-            rad, sun = calculate_theoretical_radiation(lat, lon, now + datetime.timedelta(days=1), 12, cloud)
 
+            # 시간대별 일사량/일조는 calculate_solar_engine 에서 서버 계산값으로 채움
             return {
                 'temp': avg_temp, 'min_temp': min_temp, 'max_temp': max_temp,
                 'cloud': float(cloud), 'wind': data_12['WSD'], 'humidity': data_12['REH'],
-                'sunshine': sun, 'radiation': rad,
                 'snow': 5.0 if data_12['PTY'] == 3 else 0.0,
                 'rain': 5.0 if data_12['PTY'] in [1,2,4] else 0.0
             }
@@ -536,6 +539,7 @@ REGION_MAP = {
     "경남 창원 마산회원구": {"lat": 35.2346, "lon": 128.5757}, "마산회원구": {"lat": 35.2346, "lon": 128.5757}
 }
 
+# 일사량을 받지 못하면 None
 def calculate_solar_engine(lat, lon, weather_data, capacity_kw=1.0):
     base_temp = weather_data.get('temp', 20.0)
     cloud = weather_data.get('cloud', 5.0)
@@ -547,9 +551,11 @@ def calculate_solar_engine(lat, lon, weather_data, capacity_kw=1.0):
     
     total_daily_efficiency = 0.0
     hourly_results = []
+    radiation, sunshine = fetch_irradiance(lat, target_date, cloud, 6, 19)
+    if radiation is None: return None
     
     for hour in range(6, 20):
-        curr_radiation, curr_sunshine = calculate_theoretical_radiation(lat, lon, target_date, hour, cloud)
+        curr_radiation, curr_sunshine = radiation[hour - 6], sunshine[hour - 6]
         curr_temp = base_temp + (2.0 if 12 <= hour <= 15 else -2.0)
         
         input_data = pd.DataFrame({
@@ -582,8 +588,12 @@ if __name__ == '__main__':
                     'snow': float(sys.argv[7]), 'rain': float(sys.argv[8])
                 }
             
-            total_gen, hourly_logs = calculate_solar_engine(lat, lon, weather_data, capacity_kw=1.0)
-            print(json.dumps({ "total": total_gen, "hourly": hourly_logs }))
+            result = calculate_solar_engine(lat, lon, weather_data, capacity_kw=1.0)
+            if result is None:
+                print(json.dumps({"error": IRRADIANCE_ERROR}))
+            else:
+                total_gen, hourly_logs = result
+                print(json.dumps({ "total": total_gen, "hourly": hourly_logs }))
             
         except Exception as e:
             print(json.dumps({"error": str(e)}))
@@ -653,7 +663,12 @@ if __name__ == '__main__':
                     return
                 
                 # 비동기 루프에서 Blocking 함수(모델 예측) 실행
-                gen, _ = await loop.run_in_executor(None, calculate_solar_engine, lat, lon, weather_data, capacity)
+                result = await loop.run_in_executor(None, calculate_solar_engine, lat, lon, weather_data, capacity)
+                if result is None:
+                    save_user_log(user.id, user.first_name, user_input_full, "일사량서버오류")
+                    await update.message.reply_text(IRRADIANCE_ERROR)
+                    return
+                gen, _ = result
                 profit = int(gen * 120)
                 
                 cloud_val = weather_data['cloud']
@@ -0,0 +1,67 @@
+import sys
+import io
+import os
+import json
+
+import joblib
+import pandas as pd
+
+# ==================================================================================
+# [예측 워커] Java(PythonWorkerPool)가 띄워 두고 계속 재사용하는 발전량 예측 프로세스
+# ==================================================================================
+# - 시작할 때 solar_model.pkl 을 한 번만 읽고, 이후 stdin 으로 들어오는 요청을 한 줄씩 처리합니다.
+# - 요청/응답 모두 한 줄에 JSON 하나 (newline-delimited JSON)
+#
+#   시작 완료 : {"ready": true, "pid": 1234}
+#   요청      : {"id": 7, "rows": [[시간, 위도, 경도, temp, rain, wind, humidity, sunshine, radiation, snow, cloud], ...]}
+#   응답      : {"id": 7, "predictions": [0.123, ...]}
+#   실패      : {"id": 7, "error": "..."}
+#
+# - stdout 은 응답 전용입니다. 로그는 반드시 stderr 로 출력하세요.
+
+sys.stdin = io.TextIOWrapper(sys.stdin.buffer, encoding='utf-8')
+sys.stdout = io.TextIOWrapper(sys.stdout.buffer, encoding='utf-8', line_buffering=True)
+sys.stderr = io.TextIOWrapper(sys.stderr.buffer, encoding='utf-8', line_buffering=True)
+
+# train_model.py 의 features 순서와 같아야 합니다.
+FEATURES = ['시간', '위도', '경도', 'temp', 'rain', 'wind', 'humidity', 'sunshine', 'radiation', 'snow', 'cloud']
+
+
+def reply(message):
+    sys.stdout.write(json.dumps(message) + "\n")
+    sys.stdout.flush()
+
+
+def main():
+    current_folder = os.path.dirname(os.path.abspath(__file__))
+    model_path = os.path.join(current_folder, 'data', 'solar_model.pkl')
+
+    if not os.path.exists(model_path):
+        reply({"ready": False, "error": "모델 파일을 찾을 수 없습니다."})
+        sys.exit(1)
+
+    model = joblib.load(model_path)
+    # 요청당 14행 정도라 병렬 예측(n_jobs=-1)은 스레드 준비 비용이 더 큼
+    model.n_jobs = 1
+
+    reply({"ready": True, "pid": os.getpid()})
+    print(f"[Worker] 모델 로드 완료 (pid={os.getpid()})", file=sys.stderr)
+
+    for line in sys.stdin:
+        line = line.strip()
+        if not line:
+            continue
+
+        request_id = None
+        try:
+            request = json.loads(line)
+            request_id = request.get("id")
+            rows = pd.DataFrame(request["rows"], columns=FEATURES)
+            predictions = model.predict(rows)
+            reply({"id": request_id, "predictions": [float(p) for p in predictions]})
+        except Exception as e:
+            reply({"id": request_id, "error": str(e)})
+
+
+if __name__ == '__main__':
+    main()
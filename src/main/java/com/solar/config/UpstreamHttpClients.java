@@ -0,0 +1,341 @@
+package com.solar.config;
+
+import com.solar.util.CircuitBreaker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 서버(upstream)별 공용 HTTP 클라이언트
+ * - 호출할 때마다 new RestTemplate() 를 만들지 않고, 서버별로 하나씩 만들어 재사용합니다.
+ * - 서버마다 별도의 커넥션 풀(JDK HttpClient, keep-alive)과 접속/응답 타임아웃을 가집니다.
+ * - 동시 연결 수를 제한하고, 호출 수/실패/타임아웃/지연시간을 집계합니다. (/api/monitor/http)
+ * - 회로 차단기를 켠 서버(AI 서버)는 경로(엔드포인트)별로 최근 실패율을 보고, 장애 중에는 연결을 시도하지 않고
+ *   바로 IOException 을 던집니다. (/api/monitor/breakers)
+ *   지금 AI 서버 호출은 AiBundleClient 의 /bundle 하나뿐이며, 차단 중이면 AiBundleClient 가 기다리지 않고 항목별 Fallback 을 씁니다.
+ *
+ * 설정 예) application.properties
+ *   upstream.data-go-kr.read-timeout-ms=5000
+ *   upstream.ai-server.max-connections=10
+ *   upstream.ai-server.breaker.open-ms=10000
+ */
+@Slf4j
+@Component
+public class UpstreamHttpClients {
+
+    public enum Upstream {
+        DATA_GO_KR("data-go-kr", 2000, 5000, 20, false),   // 기상청/에어코리아 (apis.data.go.kr)
+        AI_SERVER("ai-server", 500, 3000, 10, true);       // 파이썬 AI 서버 (localhost:5000)
+
+        private final String key;
+        private final int connectTimeoutMs;
+        private final int readTimeoutMs;
+        private final int maxConnections;
+        private final boolean circuitBreaker;
+
+        Upstream(String key, int connectTimeoutMs, int readTimeoutMs, int maxConnections, boolean circuitBreaker) {
+            this.key = key;
+            this.connectTimeoutMs = connectTimeoutMs;
+            this.readTimeoutMs = readTimeoutMs;
+            this.maxConnections = maxConnections;
+            this.circuitBreaker = circuitBreaker;
+        }
+    }
+
+    private final Map<Upstream, HttpClient> clients = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, RestTemplate> templates = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, UpstreamStats> stats = new EnumMap<>(Upstream.class);
+    private final Map<Upstream, CircuitBreakerInterceptor> breakers = new EnumMap<>(Upstream.class);
+
+    public UpstreamHttpClients(Environment env) {
+        for (Upstream upstream : Upstream.values()) {
+            String prefix = "upstream." + upstream.key + ".";
+            int connectMs = env.getProperty(prefix + "connect-timeout-ms", Integer.class, upstream.connectTimeoutMs);
+            int readMs = env.getProperty(prefix + "read-timeout-ms", Integer.class, upstream.readTimeoutMs);
+            int maxConn = env.getProperty(prefix + "max-connections", Integer.class, upstream.maxConnections);
+
+            // HTTP/1.1 고정: data.go.kr 은 평문 http 라 h2c 업그레이드 시도가 오히려 지연을 만듭니다.
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofMillis(connectMs))
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(client);
+            factory.setReadTimeout(Duration.ofMillis(readMs));
+
+            UpstreamStats upstreamStats = new UpstreamStats(maxConn);
+            RestTemplate restTemplate = new RestTemplate(factory);
+            // 회로 차단기를 바깥(먼저)에 두어, 차단 중인 호출은 연결 슬롯/통계에 잡히지 않게 합니다.
+            if (env.getProperty(prefix + "breaker.enabled", Boolean.class, upstream.circuitBreaker)) {
+                CircuitBreakerInterceptor breaker = new CircuitBreakerInterceptor(upstream,
+                        env.getProperty(prefix + "breaker.window-size", Integer.class, 20),
+                        env.getProperty(prefix + "breaker.min-calls", Integer.class, 5),
+                        env.getProperty(prefix + "breaker.failure-rate", Double.class, 0.5),
+                        env.getProperty(prefix + "breaker.open-ms", Long.class, 10_000L));
+                restTemplate.getInterceptors().add(breaker);
+                breakers.put(upstream, breaker);
+            }
+            restTemplate.getInterceptors().add(new MeteringInterceptor(upstreamStats, new Semaphore(maxConn), connectMs));
+
+            clients.put(upstream, client);
+            templates.put(upstream, restTemplate);
+            stats.put(upstream, upstreamStats);
+            log.info("🌐 HTTP 클라이언트 준비: {} (connect {}ms, read {}ms, 최대 {}연결)", upstream, connectMs, readMs, maxConn);
+        }
+    }
+
+    public RestTemplate get(Upstream upstream) {
+        return templates.get(upstream);
+    }
+
+    /** 기상청/에어코리아 공공데이터 API */
+    public RestTemplate dataGoKr() {
+        return get(Upstream.DATA_GO_KR);
+    }
+
+    /** 파이썬 AI 서버 (ai_server.py) */
+    public RestTemplate aiServer() {
+        return get(Upstream.AI_SERVER);
+    }
+
+    /** 모니터링용 통계 스냅샷 */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        stats.forEach((upstream, s) -> result.put(upstream.name(), s.snapshot()));
+        return result;
+    }
+
+    /** 모니터링용 회로 차단기 상태 (서버 → 경로 → 상태) */
+    public Map<String, Object> breakerSnapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        breakers.forEach((upstream, b) -> result.put(upstream.name(), b.snapshot()));
+        return result;
+    }
+
+    @PreDestroy
+    public void close() {
+        clients.values().forEach(HttpClient::close);
+    }
+
+    // ================= 호출 통계 =================
+    static class UpstreamStats {
+        private final int maxConnections;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        UpstreamStats(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        void record(long nanos) {
+            calls.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        Map<String, Object> snapshot() {
+            long count = calls.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("calls", count);
+            map.put("failures", failures.sum());
+            map.put("timeouts", timeouts.sum());
+            map.put("rejected", rejected.sum());
+            map.put("inFlight", inFlight.get());
+            map.put("maxConnections", maxConnections);
+            map.put("avgMs", count == 0 ? 0.0 : Math.round(totalNanos.sum() / (double) count / 1_000) / 1_000.0);
+            map.put("maxMs", Math.round(maxNanos.get() / 1_000) / 1_000.0);
+            return map;
+        }
+    }
+
+    // ================= 경로별 회로 차단 인터셉터 =================
+    static class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+        private final Upstream upstream;
+        private final int windowSize;
+        private final int minCalls;
+        private final double failureRate;
+        private final long openMs;
+        private final ConcurrentMap<String, CircuitBreaker> byPath = new ConcurrentHashMap<>();
+
+        CircuitBreakerInterceptor(Upstream upstream, int windowSize, int minCalls, double failureRate, long openMs) {
+            this.upstream = upstream;
+            this.windowSize = windowSize;
+            this.minCalls = minCalls;
+            this.failureRate = failureRate;
+            this.openMs = openMs;
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+            String path = request.getURI().getPath();
+            CircuitBreaker breaker = byPath.computeIfAbsent(path,
+                    p -> new CircuitBreaker(windowSize, minCalls, failureRate, openMs));
+            CircuitBreaker.Permit permit = breaker.tryAcquire();
+            if (permit == null) {
+                throw new IOException("회로 차단 중: " + upstream + " " + path);
+            }
+
+            CircuitBreaker.State before = breaker.getState();
+            boolean recorded = false;
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                // 5xx 만 서버 장애로 봅니다. (4xx 는 요청 문제)
+                if (response.getStatusCode().is5xxServerError()) breaker.onFailure(permit);
+                else breaker.onSuccess(permit);
+                recorded = true;
+                return response;
+            } catch (IOException | RuntimeException e) {
+                // 시간 예산(DeadlineScope) 초과 등으로 우리 쪽에서 취소한 호출은 서버 장애로 세지 않음
+                if (!isCancellation(e)) {
+                    breaker.onFailure(permit);
+                    recorded = true;
+                }
+                throw e;
+            } finally {
+                if (!recorded) breaker.release(permit); // 취소나 Error 로 끝나도 시험 호출 자리는 반납
+                CircuitBreaker.State after = breaker.getState();
+                if (after != before) log.warn("⚡ 회로 차단기 {} {}: {} → {}", upstream, path, before, after);
+            }
+        }
+
+        // 호출한 스레드가 인터럽트(취소)되어 끝난 호출인지 (응답 시간 초과 SocketTimeoutException 은 서버 문제로 봄)
+        private static boolean isCancellation(Exception e) {
+            if (Thread.currentThread().isInterrupted()) return true;
+            for (Throwable t = e; t != null; t = t.getCause()) {
+                if (t instanceof SocketTimeoutException) return false;
+                if (t instanceof InterruptedIOException || t instanceof InterruptedException
+                        || t instanceof ClosedByInterruptException || t instanceof CancellationException) return true;
+            }
+            return false;
+        }
+
+        Map<String, Object> snapshot() {
+            Map<String, Object> result = new TreeMap<>();
+            byPath.forEach((path, b) -> result.put(path, b.snapshot()));
+            return result;
+        }
+    }
+
+    // ================= 동시 연결 제한 + 계측 인터셉터 =================
+    static class MeteringInterceptor implements ClientHttpRequestInterceptor {
+        private final UpstreamStats stats;
+        private final Semaphore permits;
+        private final long acquireTimeoutMs;
+
+        MeteringInterceptor(UpstreamStats stats, Semaphore permits, long acquireTimeoutMs) {
+            this.stats = stats;
+            this.permits = permits;
+            this.acquireTimeoutMs = acquireTimeoutMs;
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+            try {
+                if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    stats.rejected.increment();
+                    throw new IOException("연결 한도 초과: " + request.getURI().getHost());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("연결 대기 중 인터럽트");
+            }
+
+            long start = System.nanoTime();
+            stats.inFlight.incrementAndGet();
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                if (response.getStatusCode().isError()) stats.failures.increment();
+                // 응답 본문을 다 읽고 닫을 때 연결 슬롯을 반납합니다.
+                return new MeteredResponse(response, () -> release(start));
+            } catch (IOException | RuntimeException e) {
+                stats.failures.increment();
+                if (e instanceof HttpTimeoutException || e instanceof SocketTimeoutException) stats.timeouts.increment();
+                release(start);
+                throw e;
+            }
+        }
+
+        private void release(long start) {
+            stats.inFlight.decrementAndGet();
+            stats.record(System.nanoTime() - start);
+            permits.release();
+        }
+    }
+
+    static class MeteredResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Runnable onClose;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        MeteredResponse(ClientHttpResponse delegate, Runnable onClose) {
+            this.delegate = delegate;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) onClose.run();
+            }
+        }
+    }
+}
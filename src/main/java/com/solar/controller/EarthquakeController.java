@@ -1,7 +1,7 @@
 package com.solar.controller;
 
 import com.solar.dto.EarthquakeDTO;
-import com.solar.service.WeatherService;
+import com.solar.service.HazardEventStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -13,11 +13,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EarthquakeController {
 
-    private final WeatherService weatherService;
+    private final HazardEventStore hazardEventStore;
 
     @GetMapping("/earthquake")
     public String earthquakePage(Model model) {
-        List<EarthquakeDTO> list = weatherService.getEarthquakeList();
+        List<EarthquakeDTO> list = hazardEventStore.getEarthquakeList();
         model.addAttribute("list", list);
         return "earthquake";
     }
@@ -0,0 +1,44 @@
+package com.solar.controller;
+
+import com.solar.service.HazardEventStore.HazardType;
+import com.solar.service.HazardImpactService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 지진/태풍 영향 지역 API
+ */
+@Controller
+@RequiredArgsConstructor
+public class HazardController {
+
+    private final HazardImpactService hazardImpactService;
+
+    // 🌋 [API] 최근 지진/태풍 통보문의 영향 단계별 행정구역 목록 (type=earthquake|typhoon)
+    @GetMapping("/api/impact")
+    @ResponseBody
+    public Map<String, Object> impact(@RequestParam(defaultValue = "earthquake") String type) {
+        HazardType hazardType;
+        try {
+            hazardType = HazardType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("error", "type 은 earthquake 또는 typhoon 이어야 합니다.");
+            return response;
+        }
+
+        Map<String, Object> result = hazardImpactService.describe(hazardType);
+        if (result == null) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("error", "최근 통보문이 없거나 위치 정보가 없습니다.");
+            return response;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+package com.solar.controller;
+
+import com.solar.dto.LocationDTO;
+import com.solar.service.LocationService;
+import com.solar.service.RegionSearchService;
+import com.solar.util.GridProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 위치 조회 API
+ * - 지도 클릭, 텔레그램 봇 좌표 입력 등을 외부 지오코딩 없이 서버 내 색인으로 바로 행정구역/격자로 바꿉니다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class LocationController {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final LocationService locationService;
+    private final RegionSearchService regionSearchService;
+
+    // 📍 [API] 위경도에서 가장 가까운 행정구역 목록 + 해당 지점의 기상청 격자
+    @GetMapping("/api/location/nearest")
+    @ResponseBody
+    public Map<String, Object> nearest(@RequestParam double lat,
+                                       @RequestParam double lon,
+                                       @RequestParam(defaultValue = "5") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        int[] grid = GridProjection.toGrid(lat, lon);
+        if (!GridProjection.inGrid(grid[0], grid[1])) {
+            response.put("error", "기상청 격자 범위 밖의 좌표입니다.");
+            return response;
+        }
+
+        List<Map<String, Object>> areas = new ArrayList<>();
+        for (LocationDTO location : locationService.findNearest(lat, lon, Math.clamp(limit, 1, MAX_LIMIT))) {
+            Map<String, Object> area = new LinkedHashMap<>();
+            area.put("region1", location.getRegion1());
+            area.put("region2", location.getRegion2());
+            area.put("region3", location.getRegion3());
+            area.put("name", location.getFullName());
+            area.put("nx", location.getNx());
+            area.put("ny", location.getNy());
+            area.put("lat", location.getLat());
+            area.put("lon", location.getLon());
+            area.put("distanceKm", Math.round(GridProjection.distanceKm(lat, lon, location.getLat(), location.getLon()) * 100) / 100.0);
+            areas.add(area);
+        }
+
+        response.put("lat", lat);
+        response.put("lon", lon);
+        response.put("nx", grid[0]);
+        response.put("ny", grid[1]);
+        response.put("areas", areas);
+        return response;
+    }
+
+    // 🔎 [API] 행정구역 이름 자동완성 (시/도·시/구/군·읍/면/동, 초성 검색 지원)
+    // 행정구역 목록은 배포 전까지 바뀌지 않으므로 브라우저/프록시가 하루 동안 재사용하도록 캐시 헤더를 붙임
+    @GetMapping("/api/region/search")
+    public ResponseEntity<byte[]> searchRegion(@RequestParam("q") String query,
+                                               @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
+                .body(regionSearchService.searchJson(query, limit));
+    }
+}
@@ -0,0 +1,79 @@
+package com.solar.controller;
+
+import com.solar.config.UpstreamHttpClients;
+import com.solar.service.FineDustService;
+import com.solar.service.ForecastWarmupScheduler;
+import com.solar.service.HazardEventStore;
+import com.solar.service.PythonWorkerPool;
+import com.solar.service.SolarPredictionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.Map;
+
+/**
+ * 운영 모니터링용 API
+ * - 외부 서버별 HTTP 호출 통계 등 내부 상태를 JSON 으로 확인합니다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class MonitorController {
+
+    private final UpstreamHttpClients upstreamHttpClients;
+    private final ForecastWarmupScheduler forecastWarmupScheduler;
+    private final PythonWorkerPool pythonWorkerPool;
+    private final SolarPredictionService solarPredictionService;
+    private final HazardEventStore hazardEventStore;
+    private final FineDustService fineDustService;
+
+    // 📊 [API] 외부 서버별 HTTP 호출 통계 (호출 수, 실패, 타임아웃, 평균/최대 지연)
+    @GetMapping("/api/monitor/http")
+    @ResponseBody
+    public Map<String, Object> httpStats() {
+        return upstreamHttpClients.snapshot();
+    }
+
+    // ⚡ [API] AI 서버 엔드포인트별 회로 차단기 상태 (CLOSED/OPEN/HALF_OPEN, 최근 실패율, 차단 건수)
+    @GetMapping("/api/monitor/breakers")
+    @ResponseBody
+    public Map<String, Object> breakerStats() {
+        return upstreamHttpClients.breakerSnapshot();
+    }
+
+    // 🔥 [API] 예보 사전 적재 작업별 마지막 실행 결과 (완료 시각, 대상 수, 실패 수, 소요 시간)
+    @GetMapping("/api/monitor/warmup")
+    @ResponseBody
+    public Map<String, Map<String, Object>> warmupStats() {
+        return forecastWarmupScheduler.getLastCycles();
+    }
+
+    // 🐍 [API] 파이썬 예측 워커 풀 상태 (살아있는 워커, 대기열 길이, 처리/실패/타임아웃/거절/재시작 수)
+    @GetMapping("/api/monitor/workers")
+    @ResponseBody
+    public Map<String, Object> workerStats() {
+        return pythonWorkerPool.snapshot();
+    }
+
+    // 🗂️ [API] 1kW 발전 곡선 캐시 통계 (항목 수, 적중률, 퇴출/만료 수)
+    @GetMapping("/api/monitor/curves")
+    @ResponseBody
+    public Map<String, Object> curveCacheStats() {
+        return solarPredictionService.curveCacheStats();
+    }
+
+    // 🌋 [API] 지진/태풍 통보문 수집 상태 (마지막 수집 시각, 보관 건수, 마지막 tmFc, 실패 수)
+    @GetMapping("/api/monitor/hazards")
+    @ResponseBody
+    public Map<String, Object> hazardStats() {
+        return hazardEventStore.snapshot();
+    }
+
+    // 🌫️ [API] 전국 미세먼지 측정값 수집 상태 (측정소 수, 측정값 수, 측정 시각, 실패 수)
+    @GetMapping("/api/monitor/dust")
+    @ResponseBody
+    public Map<String, Object> dustStats() {
+        return fineDustService.snapshot();
+    }
+}
@@ -1,22 +1,34 @@
 package com.solar.controller;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solar.dto.SitePredictionDTO;
+import com.solar.dto.SiteRequestDTO;
 import com.solar.service.LocationService;
+import com.solar.service.PredictionJobService;
+import com.solar.service.SolarBatchService;
 import com.solar.service.TomorrowWeatherService;
+import com.solar.util.IrradianceEngine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets; // ✅ [추가] 한글 깨짐 방지용
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Controller
 public class SolarController {
@@ -27,6 +39,15 @@ public class SolarController {
     @Autowired
     private LocationService locationService;
 
+    @Autowired
+    private SolarBatchService solarBatchService;
+
+    @Autowired
+    private PredictionJobService predictionJobService;
+
+    @Value("${solar.batch.max-sites:200}")
+    private int maxBatchSites;
+
     // 🏠 [1] 버튼만 있는 테스트 페이지 (기존 코드 유지)
     @GetMapping("/test")
     public String mainPage() {
@@ -40,11 +61,44 @@ public class SolarController {
         return "index"; // index.html 반환
     }
 
-    // 📍 [API] 시/구/군 목록 반환
+    // 📍 [API] 시/구/군 목록 반환 (행정구역 목록은 배포 전까지 바뀌지 않으므로 하루 동안 캐시)
     @GetMapping("/api/region2")
+    public ResponseEntity<Set<String>> getRegion2(@RequestParam("region1") String region1) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
+                .body(locationService.getRegion2List(region1));
+    }
+
+    // ☀️ [API] 시간대별 이론 일사량/일조 (IrradianceEngine, 텔레그램 봇 predict.py 도 이 값을 받아 씀)
+    @GetMapping("/api/irradiance")
     @ResponseBody
-    public Set<String> getRegion2(@RequestParam("region1") String region1) {
-        return locationService.getRegion2List(region1);
+    public Map<String, Object> getIrradiance(@RequestParam double lat,
+                                             @RequestParam String date,
+                                             @RequestParam(defaultValue = "0") double cloud,
+                                             @RequestParam(defaultValue = "6") int fromHour,
+                                             @RequestParam(defaultValue = "19") int toHour) {
+        Map<String, Object> response = new HashMap<>();
+        LocalDate target;
+        try {
+            target = LocalDate.parse(date, DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            response.put("error", "date 는 yyyyMMdd 형식이어야 합니다.");
+            return response;
+        }
+        if (fromHour < 0 || toHour >= IrradianceEngine.HOURS || fromHour > toHour) {
+            response.put("error", "fromHour/toHour 는 0~23 사이여야 합니다.");
+            return response;
+        }
+
+        double[] radiation = new double[toHour - fromHour + 1];
+        double[] sunshine = new double[radiation.length];
+        IrradianceEngine.hourly(lat, target.getDayOfYear(), fromHour, toHour, Math.clamp(cloud, 0.0, 10.0), radiation, sunshine);
+
+        response.put("date", date);
+        response.put("fromHour", fromHour);
+        response.put("radiation", radiation);
+        response.put("sunshine", sunshine);
+        return response;
     }
 
     // 🌤️ [API] 날씨 + 좌표 조회
@@ -75,7 +129,7 @@ public class SolarController {
         return response;
     }
 
-    // ⚡ [핵심] Python AI 연동 예측
+    // ⚡ [핵심] AI 발전량 예측 (동기 방식, 화면에서는 /api/predict/jobs 비동기 작업을 사용)
     @GetMapping("/predict")
     public String predict(@RequestParam double capacity,
                           @RequestParam double temp,
@@ -90,17 +144,13 @@ public class SolarController {
                           @RequestParam double lon,
                           @RequestParam String region1,
                           @RequestParam String region2,
+                          @RequestParam(defaultValue = "-1") int nx,
+                          @RequestParam(defaultValue = "-1") int ny,
                           Model model) {
 
         System.out.println("===== ⚡ AI 발전량 예측 시뮬레이션 =====");
 
-        String projectPath = System.getProperty("user.dir");
-        String scriptPath = projectPath + java.io.File.separator + "predict.py";
-
-        // 🔍 [복구 1] 스크립트 경로 확인 로그
-        System.out.println("🔍 실행 중인 파이썬 스크립트 경로: " + scriptPath);
-
-        // 🔍 [복구 2] 입력 데이터 확인 로그
+        // 🔍 입력 데이터 확인 로그
         System.out.println(String.format("📍 [위치] %s %s (위도: %.4f, 경도: %.4f)", region1, region2, lat, lon));
         System.out.println(String.format("🌤️ [날씨] 기온: %.1f, 구름: %.1f, 일사량: %.2f, 습도: %.1f", temp, cloud, radiation, humidity));
         System.out.println(String.format("🔌 [설비] 용량: %.1f kW", capacity));
@@ -108,87 +158,98 @@ public class SolarController {
         double rainVal = parseWeatherValue(rain);
         double snowVal = parseWeatherValue(snow);
 
-        double dailyGen = 0.0;
-        StringBuilder hourlyHtml = new StringBuilder();
+        PredictionJobService.Request request = new PredictionJobService.Request(nx, ny, capacity, temp, cloud, radiation, humidity,
+                rainVal, snowVal, wind, sunshine, lat, lon, region1, region2);
+        model.addAllAttributes(predictionJobService.buildReport(request, stage -> {}));
 
-        try {
-            ProcessBuilder pb = new ProcessBuilder(
-                    "python",
-                    scriptPath,
-                    String.valueOf(temp),
-                    String.valueOf(cloud),
-                    String.valueOf(wind),
-                    String.valueOf(humidity),
-                    String.valueOf(sunshine),
-                    String.valueOf(radiation),
-                    String.valueOf(snowVal),
-                    String.valueOf(rainVal),
-                    String.valueOf(lat),
-                    String.valueOf(lon)
-            );
-
-            Process process = pb.start();
-
-            // ✅ [수정] UTF-8 인코딩 명시 (윈도우에서 한글 로그 깨짐 방지)
-            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
-            String line = reader.readLine();
-
-            if (line != null) {
-                ObjectMapper mapper = new ObjectMapper();
-                JsonNode root = mapper.readTree(line);
-
-                double predictedOneKw = root.path("total").asDouble();
-                dailyGen = predictedOneKw * capacity;
-
-                // 🔍 [복구 3] 최종 발전량 로그
-                System.out.println("✅ [AI 예측 성공] 1kW당: " + predictedOneKw + " kWh -> 총 발전량: " + dailyGen + " kWh");
-
-                JsonNode hourlyNode = root.path("hourly");
-                hourlyHtml.append("<div style='text-align: left; font-size: 0.9rem;'>");
-
-                if (hourlyNode.isArray()) {
-                    for (JsonNode node : hourlyNode) {
-                        int h = node.path("hour").asInt();
-                        double v = node.path("value").asDouble() * capacity;
-                        hourlyHtml.append(String.format("<b>%02d시:</b> %.2f kW<br>", h, v));
-                    }
-                }
-                hourlyHtml.append("</div>");
-            }
-
-            // ✅ [수정] 에러 로그도 UTF-8로 읽기
-            BufferedReader errorReader = new BufferedReader(new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8));
-            String errorLine;
-            while ((errorLine = errorReader.readLine()) != null) {
-                System.err.println("Python Log: " + errorLine);
-            }
-
-        } catch (Exception e) {
-            e.printStackTrace();
-            System.out.println("❌ Python 실행 실패, 기본 계산식으로 대체합니다.");
-            dailyGen = capacity * radiation * 0.85;
-            hourlyHtml.append("상세 데이터 로드 실패");
-        }
+        return "result";
+    }
 
-        // 결과 가공
-        int kwhPrice = 120;
-        int savingMoney = (int) (dailyGen * kwhPrice);
-        double co2 = dailyGen * 0.424;
+    // ⏳ [API] 발전량 예측 비동기 작업 등록 (/predict 와 같은 파라미터, 작업 id 만 바로 반환)
+    @PostMapping("/api/predict/jobs")
+    @ResponseBody
+    public Map<String, Object> submitPredictJob(@RequestParam double capacity,
+                                                @RequestParam double temp,
+                                                @RequestParam double cloud,
+                                                @RequestParam double radiation,
+                                                @RequestParam double humidity,
+                                                @RequestParam String rain,
+                                                @RequestParam String snow,
+                                                @RequestParam double wind,
+                                                @RequestParam double sunshine,
+                                                @RequestParam double lat,
+                                                @RequestParam double lon,
+                                                @RequestParam String region1,
+                                                @RequestParam String region2,
+                                                @RequestParam(defaultValue = "-1") int nx,
+                                                @RequestParam(defaultValue = "-1") int ny) {
+        PredictionJobService.Request request = new PredictionJobService.Request(nx, ny, capacity, temp, cloud, radiation, humidity,
+                parseWeatherValue(rain), parseWeatherValue(snow), wind, sunshine, lat, lon, region1, region2);
+
+        String jobId = predictionJobService.submit(request);
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobId", jobId);
+        response.put("events", "/api/predict/jobs/" + jobId + "/events");
+        response.put("resultUrl", "/predict/result/" + jobId);
+        return response;
+    }
 
-        model.addAttribute("gen", String.format("%.2f", dailyGen));
-        model.addAttribute("money", String.format("%,d", savingMoney));
-        model.addAttribute("co2", String.format("%.2f", co2));
-        model.addAttribute("capacity", capacity);
-        model.addAttribute("temp", temp);
-        model.addAttribute("region1", region1);
-        model.addAttribute("region2", region2);
-        model.addAttribute("hourlyList", hourlyHtml.toString());
+    // 📡 [API] 예측 작업 진행 상황 스트림 (SSE: accepted → scored → done / failed)
+    @GetMapping(value = "/api/predict/jobs/{jobId}/events", produces = "text/event-stream")
+    public ResponseEntity<SseEmitter> predictJobEvents(@PathVariable String jobId) {
+        SseEmitter emitter = predictionJobService.subscribe(jobId);
+        return emitter != null ? ResponseEntity.ok(emitter) : ResponseEntity.notFound().build();
+    }
 
-        try { Thread.sleep(800); } catch (InterruptedException e) {}
+    // 🔎 [API] 예측 작업 상태/결과 조회 (SSE 를 쓰지 못하는 경우 polling 용)
+    @GetMapping("/api/predict/jobs/{jobId}")
+    @ResponseBody
+    public Map<String, Object> predictJobStatus(@PathVariable String jobId) {
+        Map<String, Object> response = new HashMap<>();
+        PredictionJobService.Job job = predictionJobService.getJob(jobId);
+        if (job == null) {
+            response.put("error", "작업을 찾을 수 없거나 보관 기간이 지났습니다.");
+            return response;
+        }
+        response.put("jobId", jobId);
+        response.put("status", job.getStatus());
+        if (job.getResult() != null) response.put("result", job.getResult());
+        return response;
+    }
 
+    // 📄 예측 작업 결과 페이지 (완료된 작업의 결과를 result.html 로 표시)
+    @GetMapping("/predict/result/{jobId}")
+    public String predictJobResult(@PathVariable String jobId, Model model) {
+        PredictionJobService.Job job = predictionJobService.getJob(jobId);
+        if (job == null || job.getResult() == null) {
+            return "redirect:/predict-form";
+        }
+        model.addAllAttributes(job.getResult());
         return "result";
     }
 
+    // 📦 [API] 여러 후보 부지 발전량 일괄 예측 (JSON 배열로 요청, 부지별 총량/시간별 곡선 반환)
+    // 요청 예) [{"id":"A","region1":"서울특별시","region2":"강남구","capacity":3.0}, ...]
+    @PostMapping("/api/predict/batch")
+    @ResponseBody
+    public Map<String, Object> predictBatch(@RequestBody List<SiteRequestDTO> sites) {
+        Map<String, Object> response = new HashMap<>();
+        if (sites == null || sites.isEmpty()) {
+            response.put("error", "예측할 부지가 없습니다.");
+            return response;
+        }
+        if (sites.size() > maxBatchSites) {
+            response.put("error", "한 번에 최대 " + maxBatchSites + "곳까지 예측할 수 있습니다.");
+            return response;
+        }
+
+        List<SitePredictionDTO> results = solarBatchService.predict(sites);
+        response.put("count", results.size());
+        response.put("failed", results.stream().filter(r -> r.getError() != null).count());
+        response.put("sites", results);
+        return response;
+    }
+
     private double parseWeatherValue(String val) {
         if (val == null || val.contains("없음") || val.trim().isEmpty()) return 0.0;
         try {
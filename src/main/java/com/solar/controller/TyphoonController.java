@@ -1,7 +1,7 @@
 package com.solar.controller;
 
 import com.solar.dto.TyphoonDTO;
-import com.solar.service.WeatherService;
+import com.solar.service.HazardEventStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -13,11 +13,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TyphoonController {
 
-    private final WeatherService weatherService;
+    private final HazardEventStore hazardEventStore;
 
     @GetMapping("/typhoon")
     public String typhoonPage(Model model) {
-        List<TyphoonDTO> list = weatherService.getTyphoonList();
+        List<TyphoonDTO> list = hazardEventStore.getTyphoonList();
         model.addAttribute("list", list);
         return "typhoon";
     }
@@ -0,0 +1,27 @@
+package com.solar.dto;
+
+import lombok.*;
+
+/**
+ * 행정구역 1건 (weather_location.csv 한 행: 시/도 · 시/구/군 · 읍/면/동 + 격자 + 위경도)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class LocationDTO {
+    private String region1; // 시/도
+    private String region2; // 시/구/군
+    private String region3; // 읍/면/동 (시/구/군 대표 행은 빈 문자열)
+    private int nx;
+    private int ny;
+    private double lat;
+    private double lon;
+
+    /** "서울특별시 종로구 청운효자동" 형태의 전체 이름 */
+    public String getFullName() {
+        StringBuilder sb = new StringBuilder(region1);
+        if (!region2.isEmpty()) sb.append(' ').append(region2);
+        if (!region3.isEmpty()) sb.append(' ').append(region3);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.solar.dto;
+
+import lombok.*;
+
+/**
+ * 메인 대시보드 지역 정보 (격자 좌표 + 생활지수/특보 코드 + 위경도)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class RegionDTO {
+    private String name;
+    private int nx;
+    private int ny;
+    private String areaNo; // 생활기상지수용
+    private int stnId;     // 기상특보용 지점코드
+    private double lat;    // 위도 (거리 계산용)
+    private double lon;    // 경도 (거리 계산용)
+}
@@ -0,0 +1,29 @@
+package com.solar.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 발전량 예측 결과 1건 (설비 용량을 곱한 실제 발전량)
+ * - 지역을 찾지 못했거나 예보/예측에 실패하면 error 만 채워집니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class SitePredictionDTO {
+    private String id;
+    private String region1;
+    private String region2;
+    private int nx;
+    private int ny;
+    private double lat;
+    private double lon;
+    private double capacity;  // 설비 용량 (kW)
+    private String date;      // 예측 날짜 (yyyy-MM-dd)
+    private double total;     // 예측 날짜 하루 총 발전량 (kWh)
+    private List<SolarPredictionDTO.HourlyGeneration> hourly = new ArrayList<>(); // 시간별 발전량 (06시 ~ 19시, kWh)
+    private String error;     // 실패 사유 (성공 시 null)
+}
@@ -0,0 +1,23 @@
+package com.solar.dto;
+
+import lombok.*;
+
+/**
+ * 일괄 발전량 예측 요청 1건 (후보 부지 1곳)
+ * - 격자 좌표는 region1/region2 로 찾고, 위경도를 비우면 해당 지역의 대표 좌표를 사용합니다.
+ * - 지역명 없이 위경도만 보내면 위경도가 속한 격자로 예측합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SiteRequestDTO {
+    private String id;        // 요청 측 식별자 (응답에 그대로 돌려줌, 생략 가능)
+    private String region1;   // 시/도
+    private String region2;   // 시/구/군
+    private Double lat;       // 위도 (생략 시 지역 대표 좌표)
+    private Double lon;       // 경도 (생략 시 지역 대표 좌표)
+    private double capacity;  // 설비 용량 (kW)
+    private int day = 1;      // 예측 날짜 (1: 내일, 2: 모레)
+}
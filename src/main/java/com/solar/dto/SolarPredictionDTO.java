@@ -0,0 +1,31 @@
+package com.solar.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 태양광 발전량 예측 결과 (설비 용량 1kW 기준)
+ * - 실제 발전량은 total / hourly 값에 설비 용량(kW)을 곱해서 사용합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class SolarPredictionDTO {
+    private double total;                              // 하루 총 발전량 (kWh / 1kW)
+    private List<HourlyGeneration> hourly = new ArrayList<>(); // 시간별 발전량 (06시 ~ 19시)
+
+    // 시간별 발전량을 담는 내부 클래스
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ToString
+    public static class HourlyGeneration {
+        private int hour;       // 시각 (6 ~ 19)
+        private double value;   // 발전량 (kWh / 1kW)
+    }
+}
@@ -9,7 +9,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
-public class WeatherDTO {
+public class WeatherDTO implements Cloneable {
 
     // ================= 기존 메인 데이터 =================
     private String baseDate;
@@ -32,6 +32,12 @@ public class WeatherDTO {
     private String VVV;         // 남북바람
     private String WAV;         // 파고
 
+    // ================= 현재 시각 예보 숫자값 (계산용, 값 없으면 null) =================
+    // 위 문자열 필드는 화면 표시용이고, 불쾌지수/체감온도/옷차림 계산은 이 값을 바로 사용합니다.
+    private Double tmpValue;    // 기온
+    private Double rehValue;    // 습도
+    private Double wsdValue;    // 풍속
+
     // ================= 꽃가루 농도 위험지수 필드 =================
     // 값이 없을 경우(겨울철 등) null 또는 "0"으로 처리
     private String oakPollenRisk;   // 참나무 (봄)
@@ -83,6 +89,7 @@ public class WeatherDTO {
     private String pm25Grade;       // 초미세먼지 등급
     private String khaiGrade;       // 통합대기환경지수
     private String dustComment;     // 미세먼지 코멘트
+    private String dustStation;     // 측정소 이름 (사용자 위치에서 가장 가까운 곳)
 
     // ================= 기상특보 필드 =================
     private String warningMsg; // 특보 내용 (예: "o 폭염주의보 : 서울특별시...")
@@ -179,6 +186,27 @@ public class WeatherDTO {
         return sb.toString();
     }
 
+    // ================= 복사 (같은 지역 동시 요청끼리 결과를 나눠 받을 때 요청마다 한 벌씩) =================
+    // 문자열/숫자 항목은 그대로 공유하고, 시간별 예보 목록은 항목까지 새로 만듭니다.
+    public WeatherDTO copy() {
+        try {
+            WeatherDTO copy = (WeatherDTO) super.clone();
+            copy.shortTermForecasts = copyForecasts(shortTermForecasts);
+            copy.tomorrowForecasts = copyForecasts(tomorrowForecasts);
+            copy.dayAfterTomorrowForecasts = copyForecasts(dayAfterTomorrowForecasts);
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<ShortTermForecast> copyForecasts(List<ShortTermForecast> list) {
+        if (list == null) return null;
+        List<ShortTermForecast> copy = new ArrayList<>(list.size());
+        for (ShortTermForecast item : list) copy.add(item == null ? null : item.copy());
+        return copy;
+    }
+
     // [NEW] 등급 숫자 -> 한글 변환 헬퍼 메서드
     public String getGradeText(String grade) {
         if (grade == null) return "-";
@@ -195,7 +223,7 @@ public class WeatherDTO {
     @Getter
     @Setter
     @ToString
-    public static class ShortTermForecast implements Comparable<ShortTermForecast> {
+    public static class ShortTermForecast implements Comparable<ShortTermForecast>, Cloneable {
         private String fcstDate;    // 예보 날짜
         private String fcstTime;    // 예보 시간
 
@@ -222,6 +250,14 @@ public class WeatherDTO {
             return "-";
         }
 
+        public ShortTermForecast copy() {
+            try {
+                return (ShortTermForecast) super.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
         // 시간순 정렬
         @Override
         public int compareTo(ShortTermForecast o) {
@@ -0,0 +1,92 @@
+package com.solar.service;
+
+import com.solar.config.UpstreamHttpClients;
+import com.solar.dto.WeatherDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AI 서버 묶음 호출 (ai_server.py /bundle)
+ * - 대시보드 1회에 필요한 체감온도, AI 캐스터 브리핑, AI DJ, 옷차림 추천을 HTTP 한 번으로 받아 나눠 담습니다.
+ * - 묶음 호출이 실패하거나 일부 항목이 비어 오면 그 항목만 각 서비스의 자체 Fallback 으로 채웁니다. (AI 서버 재호출 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiBundleClient {
+
+    private final UpstreamHttpClients http;
+    private final SensibleTempService sensibleTempService;
+    private final BriefingService briefingService;
+    private final DjService djService;
+    private final ClothingService clothingService;
+
+    private final String AI_SERVER_URL = "http://localhost:5000/bundle";
+
+    /**
+     * weather(기본 날씨가 채워진 dto)를 보고 AI 결과를 target 에 채웁니다.
+     */
+    public void fill(WeatherDTO weather, WeatherDTO target) {
+        Map<String, Object> response = call(weather);
+
+        String sensible = text(response, "sensible_temp");
+        target.setSensibleTemp(sensible != null ? sensible
+                : sensibleTempService.getFallbackSensibleTemp(weather.getTmpValue(), weather.getRehValue(), weather.getWsdValue()));
+
+        String script = text(response, "script");
+        target.setAiBriefing(script != null ? script
+                : briefingService.generateFallbackBriefing(weather.getTMP(), weather.getSKY(), weather.getPTY(), weather.getPOP()));
+
+        String videoId = text(response, "videoId");
+        if (videoId != null) {
+            target.setYoutubeVideoId(videoId);
+            target.setMusicComment(text(response, "comment"));
+        } else {
+            target.setPTY(weather.getPTY());
+            target.setSKY(weather.getSKY());
+            djService.setFallbackMusic(target);
+        }
+
+        String outfit = text(response, "recommendation");
+        target.setClothingRecommendation(outfit != null ? outfit
+                : clothingService.getFallbackRecommendation(weather.getTmpValue(), weather.getPTY()));
+        target.setOutfitIcon(clothingService.getOutfitIcon(weather.getTmpValue()));
+    }
+
+    // 묶음 요청 1회 (실패 시 빈 Map)
+    private Map<String, Object> call(WeatherDTO weather) {
+        try {
+            RestTemplate restTemplate = http.aiServer();
+            Map<String, Object> requestBody = new HashMap<>();
+            requestBody.put("temp", weather.getTmpValue());
+            requestBody.put("hum", weather.getRehValue());
+            requestBody.put("wind", weather.getWsdValue());
+            requestBody.put("tmp", weather.getTMP());
+            requestBody.put("sky", weather.getSKY());
+            requestBody.put("pty", weather.getPTY());
+            requestBody.put("pop", weather.getPOP());
+            requestBody.put("hour", LocalDateTime.now(ZoneId.of("Asia/Seoul")).getHour());
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> response = restTemplate.postForObject(AI_SERVER_URL, requestBody, Map.class);
+            if (response != null) return response;
+        } catch (Exception e) {
+            log.warn("⚠️ AI 서버 묶음 호출 실패 (항목별 자체 로직 사용): {}", e.getMessage());
+        }
+        return Map.of();
+    }
+
+    private String text(Map<String, Object> response, String key) {
+        Object value = response.get(key);
+        if (value == null) return null;
+        String text = String.valueOf(value);
+        return text.isEmpty() ? null : text;
+    }
+}
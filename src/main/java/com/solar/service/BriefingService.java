@@ -1,46 +1,15 @@
 package com.solar.service;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
-import java.util.Map;
-
-@Slf4j
 @Service
 public class BriefingService {
 
-    private final String AI_SERVER_URL = "http://localhost:5000/briefing";
-
     /**
-     * AI 서버 오류 시 템플릿 문장을 조합하여 "응답 없음" 대신 기본적인 날씨 브리핑을 제공합니다.
+     * 템플릿 기반 브리핑 (AiBundleClient 묶음 응답에 브리핑이 없을 때)
+     * - AI 캐스터 호출은 AiBundleClient(/bundle) 가 맡고, 이 서비스는 템플릿 문장 Fallback 만 제공합니다.
      */
-    public String getBriefing(String temp, String sky, String pty, String pop) {
-        // 1. AI 서버 요청
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("temp", temp);
-            requestBody.put("sky", sky);
-            requestBody.put("pty", pty);
-            requestBody.put("pop", pop);
-
-            @SuppressWarnings("unchecked")
-            Map<String, String> response = restTemplate.postForObject(AI_SERVER_URL, requestBody, Map.class);
-
-            if (response != null && response.containsKey("script")) {
-                return response.get("script");
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ AI 캐스터 서버 연결 실패 (템플릿 브리핑 사용): {}", e.getMessage());
-        }
-
-        // 2. [Fallback] 템플릿 기반 브리핑 생성
-        return generateFallbackBriefing(temp, sky, pty, pop);
-    }
-
-    private String generateFallbackBriefing(String temp, String sky, String pty, String pop) {
+    public String generateFallbackBriefing(String temp, String sky, String pty, String pop) {
         StringBuilder sb = new StringBuilder();
 
         // 인사
@@ -1,53 +1,17 @@
 package com.solar.service;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
-import java.util.Map;
-
-@Slf4j
 @Service
 public class ClothingService {
 
-    // 파이썬 AI 서버 주소
-    private final String AI_SERVER_URL = "http://localhost:5000/predict";
-
     /**
-     * Python 서버에 예측을 요청하고, 실패하면 자체 로직(Fallback)을 사용합니다.
+     * 자체 로직 추천 (AiBundleClient 묶음 응답에 옷차림이 없을 때)
+     * - 옷차림 AI 호출은 AiBundleClient(/bundle) 가 맡고, 이 서비스는 기온별 추천 Fallback 과 아이콘만 제공합니다.
      */
-    public String recommendOutfit(String temp, String pty, String wind) {
-        double temperature;
-        try {
-            temperature = Double.parseDouble(temp);
-        } catch (NumberFormatException e) {
-            return "기온 정보 오류";
-        }
-
-        // 1. 파이썬 서버로 요청 시도
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            // 보낼 데이터 (JSON)
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("temp", temperature);
-            requestBody.put("pty", pty);
-
-            // POST 요청 전송
-            @SuppressWarnings("unchecked")
-            Map<String, String> response = restTemplate.postForObject(AI_SERVER_URL, requestBody, Map.class);
-
-            if (response != null && response.containsKey("recommendation")) {
-                log.info("🐍 파이썬 AI 서버 응답 성공");
-                return response.get("recommendation");
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ 파이썬 AI 서버 연결 실패 (자체 로직 사용): {}", e.getMessage());
-        }
-
-        // 2. [Fallback] 파이썬 서버 실패 시 기존 Java 로직 사용
-        return getFallbackRecommendation(temperature, pty);
+    public String getFallbackRecommendation(Double temperature, String pty) {
+        if (temperature == null) return "기온 정보 오류";
+        return getFallbackRecommendation(temperature.doubleValue(), pty);
     }
 
     // 기존의 if-else 로직 (백업용)
@@ -87,13 +51,18 @@ public class ClothingService {
     // 추천 아이콘 반환 (UI용)
     public String getOutfitIcon(String temp) {
         try {
-            double t = Double.parseDouble(temp);
-            if (t >= 23) return "fas fa-tshirt text-orange-400"; // 반팔
-            if (t >= 17) return "fas fa-user-tie text-green-500"; // 긴팔/셔츠
-            if (t >= 9) return "fas fa-user-secret text-blue-500"; // 코트/자켓
-            return "fas fa-snowman text-blue-300"; // 패딩/겨울옷
+            return getOutfitIcon(Double.valueOf(temp));
         } catch (Exception e) {
             return "fas fa-question";
         }
     }
+
+    public String getOutfitIcon(Double temp) {
+        if (temp == null) return "fas fa-question";
+        double t = temp;
+        if (t >= 23) return "fas fa-tshirt text-orange-400"; // 반팔
+        if (t >= 17) return "fas fa-user-tie text-green-500"; // 긴팔/셔츠
+        if (t >= 9) return "fas fa-user-secret text-blue-500"; // 코트/자켓
+        return "fas fa-snowman text-blue-300"; // 패딩/겨울옷
+    }
 }
\ No newline at end of file
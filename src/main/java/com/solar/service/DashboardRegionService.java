@@ -0,0 +1,41 @@
+package com.solar.service;
+
+import com.solar.dto.RegionDTO;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 메인 대시보드에서 선택 가능한 주요 도시 목록
+ * - WeatherController(화면)와 ForecastWarmupScheduler(사전 적재)가 같은 목록을 사용합니다.
+ */
+@Service
+public class DashboardRegionService {
+
+    // 주요 도시 매핑 (위경도 좌표 포함)
+    private final List<RegionDTO> regions = List.of(
+            new RegionDTO("서울", 60, 127, "1100000000", 109, 37.5636, 126.9626),
+            new RegionDTO("부산", 98, 76, "2600000000", 159, 35.1796, 129.0756),
+            new RegionDTO("대구", 89, 90, "2700000000", 143, 35.8714, 128.6014),
+            new RegionDTO("인천", 55, 124, "2800000000", 109, 37.4563, 126.7052),
+            new RegionDTO("광주", 58, 74, "2900000000", 156, 35.1595, 126.8526),
+            new RegionDTO("대전", 67, 100, "3000000000", 133, 36.3504, 127.3845),
+            new RegionDTO("울산", 102, 84, "3100000000", 159, 35.5384, 129.3114),
+            new RegionDTO("세종", 66, 103, "3600000000", 133, 36.4800, 127.2890),
+            new RegionDTO("경기(수원)", 60, 120, "4111000000", 109, 37.2636, 127.0286),
+            new RegionDTO("강원(강릉)", 92, 131, "4215000000", 105, 37.7519, 128.8760),
+            new RegionDTO("제주", 52, 38, "5011000000", 184, 33.4996, 126.5312)
+    );
+
+    public List<RegionDTO> getRegions() {
+        return regions;
+    }
+
+    // 격자 좌표로 지역 찾기 (없으면 기본값 서울)
+    public RegionDTO findByGrid(int nx, int ny) {
+        return regions.stream()
+                .filter(r -> r.getNx() == nx && r.getNy() == ny)
+                .findFirst()
+                .orElse(regions.get(0));
+    }
+}
@@ -1,51 +1,18 @@
 package com.solar.service;
 
 import com.solar.dto.WeatherDTO;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
-
-@Slf4j
 @Service
 public class DjService {
 
-    private final String AI_SERVER_URL = "http://localhost:5000/dj";
-
     /**
-     * AI 서버 오류 시 날씨(비/맑음/흐림)에 맞는 고정된 유튜브 플레이리스트를 추천하여 빈 화면을 방지합니다.
+     * 로컬 추천 (AiBundleClient 묶음 응답에 음악이 없을 때)
+     * - AI DJ 호출은 AiBundleClient(/bundle) 가 맡고, 이 서비스는 날씨별 고정 플레이리스트 Fallback 만 제공합니다.
      */
-    public void setMusicRecommendation(WeatherDTO dto) {
-        int currentHour = LocalDateTime.now(ZoneId.of("Asia/Seoul")).getHour();
+    public void setFallbackMusic(WeatherDTO dto) {
         String pty = (dto.getPTY() != null) ? dto.getPTY() : "0";
         String sky = (dto.getSKY() != null) ? dto.getSKY() : "맑음";
-
-        // 1. AI 서버 요청
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("pty", pty);
-            requestBody.put("sky", sky);
-            requestBody.put("hour", currentHour);
-
-            @SuppressWarnings("unchecked")
-            Map<String, String> response = restTemplate.postForObject(AI_SERVER_URL, requestBody, Map.class);
-
-            if (response != null) {
-                dto.setYoutubeVideoId(response.get("videoId"));
-                dto.setMusicComment(response.get("comment"));
-                return;
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ AI DJ 서버 연결 실패 (로컬 리스트 사용): {}", e.getMessage());
-        }
-
-        // 2. [Fallback] 로컬 추천 로직
         setFallbackMusic(dto, pty, sky);
     }
 
@@ -0,0 +1,233 @@
+package com.solar.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solar.config.UpstreamHttpClients;
+import com.solar.util.GridProjection;
+import com.solar.util.KdTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전국 미세먼지 실시간 측정값 (에어코리아)
+ * - dust.poll-interval-ms 마다 시도명 "전국" 으로 모든 측정소의 실시간 측정값을 한 번에 받아 메모리에 둡니다.
+ * - 측정소 위치(위경도)는 하루 한 번 측정소 목록 API 로 받아 k-d 트리로 만들어 두고,
+ *   대시보드는 사용자 좌표에서 가장 가까운(측정값이 있는) 측정소의 값을 바로 꺼내 씁니다. (요청마다 외부 API 호출 없음)
+ * - 측정소 목록과 측정값 표는 통째로 바꿔 끼우므로 읽는 쪽은 잠금 없이 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FineDustService {
+
+    private static final int NEAREST_CANDIDATES = 5; // 가까운 측정소가 점검 중이면 다음 측정소 사용
+    private static final double MAX_STATION_KM = 50;  // 이보다 먼 측정소 값은 쓰지 않음
+    private static final int ROWS = 1000;             // 전국 측정소 수(약 650곳)보다 크게
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final UpstreamHttpClients http;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final String API_KEY = "your_key"; // 공공데이터포털에서 발급받은 서비스키
+
+    private final String URL_DUST    = "http://apis.data.go.kr/B552584/ArpltnInforInqireSvc/getCtprvnRltmMesureDnsty"; // 시도별 실시간 측정정보조회
+    private final String URL_STATION = "http://apis.data.go.kr/B552584/MsrstnInfoInqireSvc/getMsrstnList";           // 측정소 목록조회
+
+    @Value("${dust.poll-interval-ms:600000}")
+    private long pollIntervalMs;
+
+    /**
+     * 측정소 1곳 (sido 는 주소 첫 단어, 예: "서울", "강원특별자치도")
+     */
+    public record Station(String sido, String name, double lat, double lon) {}
+
+    /**
+     * 측정소 1곳의 실시간 측정값
+     */
+    public record Measurement(String sido, String station, String dataTime, String pm10Value, String pm10Grade,
+                              String pm25Value, String pm25Grade, String khaiGrade) {}
+
+    /**
+     * 사용자 위치에서 본 측정값 (측정소까지 거리 포함)
+     */
+    public record NearestDust(Measurement measurement, double distanceKm) {}
+
+    private record Stations(LocalDate loadedOn, KdTree<Station> index) {}
+
+    private volatile Stations stations = new Stations(null, new KdTree<>(new double[0], new double[0], List.of()));
+    // key: 측정소명 (시도가 달라도 이름이 같은 측정소가 있어 목록으로 보관, 예: 서울/부산 "중구")
+    private volatile Map<String, List<Measurement>> measurements = Map.of();
+
+    private volatile String lastPolledAt;
+    private volatile String lastDataTime;
+    private volatile long lastPollMs;
+    private volatile int pollFailures;
+
+    // ================= 주기 수집 =================
+    @Scheduled(fixedDelayString = "${dust.poll-interval-ms:600000}")
+    public void poll() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now(KST);
+
+        if (!now.toLocalDate().equals(stations.loadedOn())) {
+            try {
+                loadStations(now.toLocalDate());
+            } catch (Exception e) {
+                pollFailures++;
+                log.warn("미세먼지 측정소 목록 수집 실패: {}", e.getMessage());
+            }
+        }
+
+        try {
+            loadMeasurements();
+        } catch (Exception e) {
+            pollFailures++;
+            log.warn("미세먼지 측정값 수집 실패: {}", e.getMessage());
+        }
+
+        lastPolledAt = now.toString();
+        lastPollMs = (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private void loadStations(LocalDate today) throws Exception {
+        URI uri = UriComponentsBuilder.fromUriString(URL_STATION)
+                .queryParam("serviceKey", API_KEY)
+                .queryParam("returnType", "json")
+                .queryParam("numOfRows", ROWS)
+                .queryParam("pageNo", 1)
+                .build(true)
+                .toUri();
+
+        List<Station> list = new ArrayList<>();
+        for (JsonNode item : fetchItems(uri)) {
+            double x = parse(item.path("dmX").asText());
+            double y = parse(item.path("dmY").asText());
+            if (x == 0 || y == 0) continue;
+            String addr = item.path("addr").asText("").trim();
+            String sido = addr.isEmpty() ? "" : addr.split("\\s+")[0];
+            // dmX/dmY 중 위도(한반도 33~39도)가 항상 경도(124~132도)보다 작음
+            list.add(new Station(sido, item.path("stationName").asText(), Math.min(x, y), Math.max(x, y)));
+        }
+        if (list.isEmpty()) return;
+
+        double[] lats = new double[list.size()];
+        double[] lons = new double[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            lats[i] = list.get(i).lat();
+            lons[i] = list.get(i).lon();
+        }
+        stations = new Stations(today, new KdTree<>(lats, lons, list));
+        log.info("🌫️ 미세먼지 측정소 {}곳 위치 갱신", list.size());
+    }
+
+    private void loadMeasurements() throws Exception {
+        URI uri = UriComponentsBuilder.fromUriString(URL_DUST)
+                .queryParam("serviceKey", API_KEY)
+                .queryParam("returnType", "json")
+                .queryParam("numOfRows", ROWS)
+                .queryParam("pageNo", 1)
+                .queryParam("sidoName", URLEncoder.encode("전국", StandardCharsets.UTF_8))
+                .queryParam("ver", "1.0")
+                .build(true)
+                .toUri();
+
+        Map<String, List<Measurement>> table = new HashMap<>();
+        int count = 0;
+        String dataTime = null;
+        for (JsonNode item : fetchItems(uri)) {
+            Measurement m = new Measurement(
+                    item.path("sidoName").asText(),
+                    item.path("stationName").asText(),
+                    item.path("dataTime").asText(),
+                    item.path("pm10Value").asText("-"),
+                    item.path("pm10Grade").asText("0"),
+                    item.path("pm25Value").asText("-"),
+                    item.path("pm25Grade").asText("0"),
+                    item.path("khaiGrade").asText("0"));
+            table.computeIfAbsent(m.station(), k -> new ArrayList<>(1)).add(m);
+            count++;
+            if (dataTime == null || m.dataTime().compareTo(dataTime) > 0) dataTime = m.dataTime();
+        }
+        if (table.isEmpty()) return; // 빈 응답이면 이전 표 유지
+
+        boolean changed = !dataTime.equals(lastDataTime);
+        measurements = table;
+        lastDataTime = dataTime;
+        if (changed) log.info("🌫️ 미세먼지 측정값 갱신: 측정소 {}곳 ({})", count, dataTime);
+    }
+
+    private JsonNode fetchItems(URI uri) throws Exception {
+        String json = http.dataGoKr().getForObject(uri, String.class);
+        JsonNode root = mapper.readTree(json);
+        String resultCode = root.path("response").path("header").path("resultCode").asText();
+        if (!"00".equals(resultCode)) throw new IllegalStateException("resultCode=" + resultCode);
+        return root.path("response").path("body").path("items");
+    }
+
+    // ================= 조회 (메모리) =================
+
+    /**
+     * 위경도에서 가장 가까운, 측정값(PM10 등급)이 있는 측정소의 값 (없으면 null)
+     */
+    public NearestDust nearest(double lat, double lon) {
+        Map<String, List<Measurement>> table = measurements;
+        if (table.isEmpty()) return null;
+
+        for (Station station : stations.index().nearest(lat, lon, NEAREST_CANDIDATES)) {
+            double dist = GridProjection.distanceKm(lat, lon, station.lat(), station.lon());
+            if (dist > MAX_STATION_KM) break;
+            Measurement m = find(table, station);
+            if (m != null && !"0".equals(m.pm10Grade()) && !m.pm10Grade().isEmpty()) return new NearestDust(m, dist);
+        }
+        return null;
+    }
+
+    // 측정소명으로 찾고, 같은 이름이 여러 시도에 있으면 주소의 시도("서울특별시")가 sidoName("서울")으로 시작하는 것
+    private Measurement find(Map<String, List<Measurement>> table, Station station) {
+        List<Measurement> candidates = table.get(station.name());
+        if (candidates == null) return null;
+        if (candidates.size() == 1) return candidates.get(0);
+        for (Measurement m : candidates) {
+            if (station.sido().startsWith(m.sido())) return m;
+        }
+        return null;
+    }
+
+    /** 모니터링용 수집 상태 */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pollIntervalMs", pollIntervalMs);
+        result.put("lastPolledAt", lastPolledAt);
+        result.put("lastPollMs", lastPollMs);
+        result.put("failures", pollFailures);
+        result.put("stations", stations.index().size());
+        result.put("stationsLoadedOn", stations.loadedOn() == null ? null : stations.loadedOn().toString());
+        result.put("measurements", measurements.values().stream().mapToInt(List::size).sum());
+        result.put("dataTime", lastDataTime);
+        return result;
+    }
+
+    private double parse(String value) {
+        try {
+            return value == null || value.isBlank() ? 0 : Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.solar.service;
+
+import com.solar.config.UpstreamHttpClients;
+import com.solar.util.ExpiringCache;
+import com.solar.util.KmaForecast;
+import com.solar.util.KmaForecastParser;
+import com.solar.util.SingleFlight;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 기상청 단기예보/초단기예보 공용 캐시
+ * - (endpoint, base_date, base_time, nx, ny) 단위로 응답을 한 번만 받아 파싱해 둡니다.
+ * - 응답은 JsonNode 트리 대신 스트리밍 파서(KmaForecastParser)로 바로 KmaForecast 로 읽습니다.
+ * - 고정 TTL이 아니라, 다음 발표분이 조회 가능해지는 시각에 정확히 만료됩니다.
+ * - WeatherService(메인 대시보드)와 TomorrowWeatherService(발전량 예측)가 함께 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ForecastCache {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private final String API_KEY = "your_key"; // 공공데이터포털에서 발급받은 서비스키
+
+    private final UpstreamHttpClients http;
+    private final ExpiringCache<Key, KmaForecast> cache = new ExpiringCache<>();
+    private final SingleFlight<Key, KmaForecast> loads = new SingleFlight<>(); // 캐시 미스 동시 요청 합치기
+
+    /**
+     * 예보 종류별 URL 과 발표 시각 규칙
+     */
+    public enum Endpoint {
+        // 단기예보: 02, 05, 08, 11, 14, 17, 20, 23시 발표 (발표 10분 후부터 조회 가능)
+        VILAGE("http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getVilageFcst") {
+            @Override
+            public String[] currentBase(LocalDateTime now) {
+                if (now.getMinute() < 10) now = now.minusHours(1);
+
+                int hour = now.getHour();
+                String baseDate = now.format(DATE);
+                String baseTime;
+
+                if (hour < 2) { baseTime = "2300"; baseDate = now.minusDays(1).format(DATE); }
+                else if (hour < 5) baseTime = "0200";
+                else if (hour < 8) baseTime = "0500";
+                else if (hour < 11) baseTime = "0800";
+                else if (hour < 14) baseTime = "1100";
+                else if (hour < 17) baseTime = "1400";
+                else if (hour < 20) baseTime = "1700";
+                else if (hour < 23) baseTime = "2000";
+                else baseTime = "2300";
+
+                return new String[]{baseDate, baseTime};
+            }
+
+            @Override
+            public LocalDateTime nextAvailable(LocalDateTime base) {
+                return base.plusHours(3).plusMinutes(10);
+            }
+        },
+        // 초단기예보: 매시 30분 발표 (45분부터 조회 가능)
+        ULTRA("http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getUltraSrtFcst") {
+            @Override
+            public String[] currentBase(LocalDateTime now) {
+                if (now.getMinute() < 45) now = now.minusHours(1);
+                return new String[]{now.format(DATE), now.format(DateTimeFormatter.ofPattern("HH30"))};
+            }
+
+            @Override
+            public LocalDateTime nextAvailable(LocalDateTime base) {
+                return base.plusHours(1).plusMinutes(15);
+            }
+        };
+
+        private final String url;
+
+        Endpoint(String url) {
+            this.url = url;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        /** 현재 시각 기준으로 조회해야 할 {base_date, base_time} */
+        public abstract String[] currentBase(LocalDateTime now);
+
+        /** base 발표분 다음 발표분이 조회 가능해지는 시각 */
+        public abstract LocalDateTime nextAvailable(LocalDateTime base);
+    }
+
+    public record Key(Endpoint endpoint, String baseDate, String baseTime, int nx, int ny) {}
+
+    /**
+     * 현재 발표분의 예보를 반환합니다.
+     */
+    public KmaForecast getCurrentForecast(Endpoint endpoint, int nx, int ny) {
+        String[] base = endpoint.currentBase(LocalDateTime.now(KST));
+        return getForecast(endpoint, base[0], base[1], nx, ny);
+    }
+
+    /**
+     * 캐시를 거쳐 예보(response.body.items.item 파싱 결과)를 반환합니다.
+     * - 정상 응답(resultCode=00)만 캐시하며, 실패 시 null 을 반환합니다.
+     */
+    public KmaForecast getForecast(Endpoint endpoint, String baseDate, String baseTime, int nx, int ny) {
+        Key key = new Key(endpoint, baseDate, baseTime, nx, ny);
+        KmaForecast cached = cache.get(key);
+        if (cached != null) return cached;
+
+        return loads.execute(key, () -> load(key));
+    }
+
+    private KmaForecast load(Key key) {
+        KmaForecast cached = cache.get(key); // 앞선 요청이 방금 채웠을 수 있음
+        if (cached != null) return cached;
+
+        Endpoint endpoint = key.endpoint();
+        String baseDate = key.baseDate();
+        String baseTime = key.baseTime();
+        int nx = key.nx();
+        int ny = key.ny();
+        try {
+            URI uri = buildUri(endpoint.getUrl(), baseDate, baseTime, nx, ny);
+            KmaForecast forecast = http.dataGoKr().execute(uri, HttpMethod.GET, null,
+                    response -> KmaForecastParser.parse(response.getBody()));
+
+            if (forecast == null || !forecast.isOk()) return null;
+
+            cache.put(key, forecast, expiryOf(endpoint, baseDate, baseTime).atZone(KST).toInstant());
+            return forecast;
+        } catch (Exception e) {
+            log.warn("예보 조회 실패 ({} {} {} {},{}): {}", endpoint, baseDate, baseTime, nx, ny, e.getMessage());
+            return null;
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    // 다음 발표분이 열리는 시각에 만료. (이미 지난 발표분을 일부러 조회한 경우 해당 날짜가 끝날 때까지 보관)
+    private LocalDateTime expiryOf(Endpoint endpoint, String baseDate, String baseTime) {
+        LocalDateTime base = LocalDateTime.parse(baseDate + baseTime, DATE_TIME);
+        LocalDateTime next = endpoint.nextAvailable(base);
+        LocalDateTime now = LocalDateTime.now(KST);
+        if (next.isAfter(now)) return next;
+        return LocalDate.parse(baseDate, DATE).plusDays(1).atStartOfDay();
+    }
+
+    // =================  단기예보/초단기예보 API URI 빌더 =================
+    private URI buildUri(String url, String baseDate, String baseTime, int nx, int ny) {
+        return UriComponentsBuilder.fromUriString(url)
+                .queryParam("serviceKey", API_KEY)
+                .queryParam("pageNo", "1")
+                .queryParam("numOfRows", "1000")
+                .queryParam("dataType", "JSON")
+                .queryParam("base_date", baseDate)
+                .queryParam("base_time", baseTime)
+                .queryParam("nx", nx)
+                .queryParam("ny", ny)
+                .build()
+                .toUri();
+    }
+}
@@ -0,0 +1,129 @@
+package com.solar.service;
+
+import com.solar.dto.RegionDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 대시보드 주요 도시 예보 사전 적재 스케줄러
+ * - 기상청 발표분이 조회 가능해진 직후 주요 도시 데이터를 미리 받아 캐시에 채워 둡니다.
+ * - 사용자 요청은 캐시만 읽게 되어 외부 API 지연을 기다리지 않습니다.
+ * - 발표 시각 판단은 ForecastCache.Endpoint / WeatherService 의 기존 규칙을 그대로 따릅니다.
+ *
+ * 발표 시각 (KST)
+ *   단기예보  : 02, 05, 08, 11, 14, 17, 20, 23시 (10분 후 조회 가능) → 12분에 적재
+ *   초단기예보: 매시 30분 (45분부터 조회 가능)                      → 47분에 적재
+ *   생활지수  : 06, 18시                                          → 12분에 적재
+ *   기상특보  : 수시 발표                                          → 5분마다 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ForecastWarmupScheduler {
+
+    private final WeatherService weatherService;
+    private final DashboardRegionService regionService;
+
+    // 작업 종류별 마지막 적재 결과 (/api/monitor/warmup)
+    private final Map<String, Map<String, Object>> lastCycles = new ConcurrentHashMap<>();
+
+    // ================= 서버 기동 직후 전체 적재 =================
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        warmVilage();
+        warmUltraSrt();
+        warmLivingIndices();
+        warmWarnings();
+    }
+
+    // ================= 단기예보 (발표 12분 후) =================
+    @Scheduled(cron = "0 12 2,5,8,11,14,17,20,23 * * *", zone = "Asia/Seoul")
+    public void warmVilage() {
+        runCycle("vilage", regionService.getRegions(),
+                r -> weatherService.warmForecasts(r.getNx(), r.getNy(), true, false));
+    }
+
+    // ================= 초단기예보 (매시 47분) =================
+    @Scheduled(cron = "0 47 * * * *", zone = "Asia/Seoul")
+    public void warmUltraSrt() {
+        runCycle("ultraSrt", regionService.getRegions(),
+                r -> weatherService.warmForecasts(r.getNx(), r.getNy(), false, true));
+    }
+
+    // ================= 자외선/꽃가루 지수 (06시, 18시 발표 12분 후) =================
+    @Scheduled(cron = "0 12 6,18 * * *", zone = "Asia/Seoul")
+    public void warmLivingIndices() {
+        runCycle("living", regionService.getRegions(),
+                r -> weatherService.warmLivingIndices(r.getAreaNo()));
+    }
+
+    // ================= 기상특보 (관측소 단위, 5분마다) =================
+    @Scheduled(fixedDelayString = "${weather.warmup.warning-interval-ms:300000}",
+            initialDelayString = "${weather.warmup.warning-interval-ms:300000}")
+    public void warmWarnings() {
+        // 여러 도시가 같은 관측소를 쓰므로 관측소별로 한 번만 호출
+        List<Integer> stnIds = regionService.getRegions().stream()
+                .map(RegionDTO::getStnId)
+                .distinct()
+                .toList();
+        runCycle("warning", stnIds, weatherService::warmWarning);
+    }
+
+    public Map<String, Map<String, Object>> getLastCycles() {
+        return lastCycles;
+    }
+
+    // ================= 공통: 대상별 가상 스레드 병렬 적재 + 소요 시간 기록 =================
+    private <T> void runCycle(String name, List<T> targets, Consumer<T> task) {
+        long start = System.nanoTime();
+        AtomicInteger failed = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (T target : targets) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        task.accept(target);
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        log.warn("사전 적재 실패 ({} / {}): {}", name, target, e.getMessage());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                }
+            }
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("🔥 사전 적재 완료: {} ({}건, 실패 {}건, {}ms)", name, targets.size(), failed.get(), elapsedMs);
+
+        Map<String, Object> cycle = new LinkedHashMap<>();
+        cycle.put("finishedAt", LocalDateTime.now(ZoneId.of("Asia/Seoul")).toString());
+        cycle.put("targets", targets.size());
+        cycle.put("failed", failed.get());
+        cycle.put("elapsedMs", elapsedMs);
+        lastCycles.put(name, cycle);
+    }
+}
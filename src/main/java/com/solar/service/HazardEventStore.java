@@ -0,0 +1,258 @@
+package com.solar.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solar.config.UpstreamHttpClients;
+import com.solar.dto.EarthquakeDTO;
+import com.solar.dto.TyphoonDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * 지진/태풍 통보문 저장소 (백그라운드 수집)
+ * - hazard.poll-interval-ms 마다 기상청 지진정보/태풍정보 API 를 한 번씩 호출해 통보 시각(tmFc) 순으로 메모리에 쌓아 둡니다.
+ * - 첫 수집은 최근 RETENTION_DAYS 일, 이후에는 마지막으로 본 tmFc 의 날짜부터만 다시 받고 이미 있는 통보문은 건너뜁니다.
+ * - 대시보드(최근 1건)와 /earthquake, /typhoon 목록 화면은 모두 이 저장소만 읽습니다. (요청마다 외부 API 호출 없음)
+ * - 새 통보문이 들어오면 시간순으로 HazardEvent 를 발행합니다. (HazardImpactService 가 영향 지역을 미리 계산)
+ * - 돌려주는 DTO 는 저장소와 공유되므로 수정하지 말고 읽기만 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HazardEventStore {
+
+    private static final int RETENTION_DAYS = 30; // 목록 화면 조회 기간
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_PAGES = 10;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final UpstreamHttpClients http;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final String API_KEY = "your_key"; // 공공데이터포털에서 발급받은 서비스키
+
+    private final String URL_EQK    = "http://apis.data.go.kr/1360000/EqkInfoService/getEqkMsgList";          // 지진정보조회
+    private final String URL_TYPHOON= "http://apis.data.go.kr/1360000/TyphoonInfoService/getTyphoonInfoList"; // 태풍정보조회
+
+    // key: 원본 tmFc(yyyyMMddHHmm) + 구분값 → 사전순 = 시간순
+    private final ConcurrentSkipListMap<String, EarthquakeDTO> quakes = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, TyphoonDTO> typhoons = new ConcurrentSkipListMap<>();
+
+    @Value("${hazard.poll-interval-ms:60000}")
+    private long pollIntervalMs;
+
+    public enum HazardType { EARTHQUAKE, TYPHOON }
+
+    /**
+     * 새로 수집된 통보문 1건
+     * @param key       저장소 키 (사전순 = 시간순)
+     * @param intensity 지진 규모 또는 태풍 최대 풍속(m/s), 알 수 없으면 0
+     * @param lat       진앙/태풍 중심 위도 (알 수 없으면 0)
+     */
+    public record HazardEvent(HazardType type, String key, String tmFc, String title,
+                              double lat, double lon, double intensity) {}
+
+    private volatile String lastPolledAt;
+    private volatile long lastPollMs;
+    private volatile int pollFailures;
+
+    // ================= 주기 수집 =================
+    @Scheduled(fixedDelayString = "${hazard.poll-interval-ms:60000}")
+    public void poll() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now(KST);
+        String toDate = now.format(DAY);
+        String retainFrom = now.minusDays(RETENTION_DAYS).format(DAY);
+
+        List<String> newQuakes = pollSource(URL_EQK, quakes, retainFrom, toDate,
+                item -> item.path("tmFc").asText() + "#" + item.path("tmEqk").asText() + "#" + item.path("loc").asText(),
+                this::toEarthquake);
+        List<String> newTyphoons = pollSource(URL_TYPHOON, typhoons, retainFrom, toDate,
+                item -> item.path("tmFc").asText() + "#" + item.path("typSeq").asText() + "#" + item.path("typLoc").asText(),
+                this::toTyphoon);
+
+        // 보관 기간이 지난 통보문 정리
+        quakes.headMap(retainFrom).clear();
+        typhoons.headMap(retainFrom).clear();
+
+        lastPolledAt = now.toString();
+        lastPollMs = (System.nanoTime() - start) / 1_000_000;
+        if (!newQuakes.isEmpty() || !newTyphoons.isEmpty()) {
+            log.info("🌋 재난 통보문 수집: 지진 +{}건, 태풍 +{}건 (보관 {} / {}건, {}ms)",
+                    newQuakes.size(), newTyphoons.size(), quakes.size(), typhoons.size(), lastPollMs);
+        }
+
+        // 새 통보문 알림 (시간순, 보관 기간 안의 것만)
+        newQuakes.stream().sorted().filter(quakes::containsKey)
+                .forEach(key -> eventPublisher.publishEvent(toEvent(key, quakes.get(key))));
+        newTyphoons.stream().sorted().filter(typhoons::containsKey)
+                .forEach(key -> eventPublisher.publishEvent(toEvent(key, typhoons.get(key))));
+    }
+
+    // 마지막으로 본 tmFc 의 날짜부터 오늘까지 받아 새 통보문만 추가 (새로 추가된 키 반환)
+    private <T> List<String> pollSource(String url, ConcurrentSkipListMap<String, T> store, String retainFrom, String toDate,
+                                        Function<JsonNode, String> keyOf, Function<JsonNode, T> toDto) {
+        String fromDate = store.isEmpty() ? retainFrom : store.lastKey().substring(0, 8);
+        List<String> added = new ArrayList<>();
+        try {
+            for (int page = 1; page <= MAX_PAGES; page++) {
+                JsonNode items = fetchPage(url, fromDate, toDate, page);
+                if (items == null) break;
+                for (JsonNode item : items) {
+                    String key = keyOf.apply(item);
+                    if (store.putIfAbsent(key, toDto.apply(item)) == null) added.add(key);
+                }
+                if (items.size() < PAGE_SIZE) break;
+            }
+        } catch (Exception e) {
+            pollFailures++;
+            log.warn("재난 통보문 수집 실패 ({}): {}", url, e.getMessage());
+        }
+        return added;
+    }
+
+    // 한 페이지 조회 (정상 응답이 아니거나 항목이 없으면 null)
+    private JsonNode fetchPage(String url, String fromDate, String toDate, int page) throws Exception {
+        URI uri = UriComponentsBuilder.fromUriString(url)
+                .queryParam("serviceKey", API_KEY)
+                .queryParam("pageNo", page)
+                .queryParam("numOfRows", PAGE_SIZE)
+                .queryParam("dataType", "JSON")
+                .queryParam("fromTmFc", fromDate)
+                .queryParam("toTmFc", toDate)
+                .build()
+                .toUri();
+
+        String json = http.dataGoKr().getForObject(uri, String.class);
+        JsonNode root = mapper.readTree(json);
+        String resultCode = root.path("response").path("header").path("resultCode").asText();
+        if ("03".equals(resultCode)) return null; // NO_DATA
+        if (!"00".equals(resultCode)) throw new IllegalStateException("resultCode=" + resultCode);
+
+        JsonNode items = root.path("response").path("body").path("items").path("item");
+        return items.isEmpty() ? null : items;
+    }
+
+    // ================= 조회 (메모리) =================
+
+    /** 최근 days 일 안의 가장 최근 지진 통보문 (없으면 null) */
+    public EarthquakeDTO latestEarthquake(int days) {
+        Map.Entry<String, EarthquakeDTO> last = quakes.lastEntry();
+        return last != null && last.getKey().compareTo(since(days)) >= 0 ? last.getValue() : null;
+    }
+
+    /** 최근 days 일 안의 가장 최근 태풍 통보문 (없으면 null) */
+    public TyphoonDTO latestTyphoon(int days) {
+        Map.Entry<String, TyphoonDTO> last = typhoons.lastEntry();
+        return last != null && last.getKey().compareTo(since(days)) >= 0 ? last.getValue() : null;
+    }
+
+    /** 보관 중인 지진 통보문 (최신순) */
+    public List<EarthquakeDTO> getEarthquakeList() {
+        return newestFirst(quakes, since(RETENTION_DAYS));
+    }
+
+    /** 보관 중인 태풍 통보문 (최신순) */
+    public List<TyphoonDTO> getTyphoonList() {
+        return newestFirst(typhoons, since(RETENTION_DAYS));
+    }
+
+    /** 모니터링용 수집 상태 */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pollIntervalMs", pollIntervalMs);
+        result.put("lastPolledAt", lastPolledAt);
+        result.put("lastPollMs", lastPollMs);
+        result.put("failures", pollFailures);
+        result.put("earthquakes", quakes.size());
+        result.put("typhoons", typhoons.size());
+        result.put("lastEarthquakeTmFc", quakes.isEmpty() ? null : quakes.lastKey().split("#")[0]);
+        result.put("lastTyphoonTmFc", typhoons.isEmpty() ? null : typhoons.lastKey().split("#")[0]);
+        return result;
+    }
+
+    private String since(int days) {
+        return LocalDateTime.now(KST).minusDays(days).format(DAY);
+    }
+
+    private <T> List<T> newestFirst(NavigableMap<String, T> store, String from) {
+        return new ArrayList<>(store.tailMap(from, true).descendingMap().values());
+    }
+
+    // ================= 응답 → DTO =================
+    private EarthquakeDTO toEarthquake(JsonNode item) {
+        EarthquakeDTO dto = new EarthquakeDTO();
+        dto.setTmFc(formatEqTime(item.path("tmFc").asText()));
+        dto.setTmEqk(formatEqTime(item.path("tmEqk").asText()));
+        dto.setLat(item.path("lat").asText());
+        dto.setLon(item.path("lon").asText());
+        dto.setLoc(item.path("loc").asText());
+        dto.setMt(item.path("mt").asText());
+        dto.setRem(item.path("rem").asText());
+        dto.setImg(item.path("img").asText());
+        return dto;
+    }
+
+    private TyphoonDTO toTyphoon(JsonNode item) {
+        TyphoonDTO dto = new TyphoonDTO();
+        dto.setTmFc(formatEqTime(item.path("tmFc").asText()));
+        dto.setTypSeq(item.path("typSeq").asText());
+        dto.setTypName(item.path("typName").asText());
+        dto.setTypEn(item.path("typEn").asText());
+        dto.setManFc(item.path("manFc").asText());
+        dto.setLoc(item.path("typLoc").asText("-"));
+        dto.setLat(item.path("lat").asText("0"));
+        dto.setLon(item.path("lon").asText("0"));
+        dto.setDir(item.path("typDir").asText("-"));
+        dto.setSp(item.path("typSp").asText("-"));
+        dto.setPs(item.path("typPs").asText("-"));
+        dto.setWs(item.path("typWs").asText("-"));
+        return dto;
+    }
+
+    private HazardEvent toEvent(String key, EarthquakeDTO dto) {
+        return new HazardEvent(HazardType.EARTHQUAKE, key, dto.getTmFc(), dto.getLoc(),
+                number(dto.getLat()), number(dto.getLon()), number(dto.getMt()));
+    }
+
+    private HazardEvent toEvent(String key, TyphoonDTO dto) {
+        return new HazardEvent(HazardType.TYPHOON, key, dto.getTmFc(), "제" + dto.getTypSeq() + "호 " + dto.getTypName(),
+                number(dto.getLat()), number(dto.getLon()), number(dto.getWs()));
+    }
+
+    // 숫자 문자열 (단위 등 숫자 외 문자는 제거, 없으면 0)
+    private double number(String value) {
+        String digits = value == null ? "" : value.replaceAll("[^0-9.-]", "");
+        try {
+            return digits.isEmpty() ? 0 : Double.parseDouble(digits);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // yyyyMMddHHmm → "MM.dd HH:mm"
+    private String formatEqTime(String rawTime) {
+        if (rawTime == null || rawTime.length() < 12) return rawTime;
+        return rawTime.substring(4, 6) + "." + rawTime.substring(6, 8) + " " +
+                rawTime.substring(8, 10) + ":" + rawTime.substring(10, 12);
+    }
+}
@@ -0,0 +1,235 @@
+package com.solar.service;
+
+import com.solar.dto.LocationDTO;
+import com.solar.service.HazardEventStore.HazardEvent;
+import com.solar.service.HazardEventStore.HazardType;
+import com.solar.util.GridProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지진/태풍 영향 지역 미리 계산
+ * - HazardEventStore 가 새 통보문을 발행하면 한 번만, 진앙/태풍 중심에서 모든 행정구역(weather_location.csv)까지 거리를 구해
+ *   안전 안내 문구(영향 단계)별로 나눠 둡니다.
+ * - 대시보드는 사용자 위치에서 가장 가까운 행정구역의 결과를 배열에서 바로 꺼내 쓰고(요청마다 삼각함수 계산 없음),
+ *   /api/impact 는 영향 단계별 지역 목록을 그대로 돌려줍니다.
+ * - 종류(지진/태풍)마다 가장 최근 통보문의 결과만 보관합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HazardImpactService {
+
+    private static final double EARTHQUAKE_RANGE_KM = 500; // 이보다 멀면 영향 없음
+    private static final double TYPHOON_RANGE_KM = 800;
+
+    private final LocationService locationService;
+
+    private final Map<HazardType, Impact> latest = new EnumMap<>(HazardType.class);
+    private volatile Map<LocationDTO, Integer> indexOf;
+
+    /**
+     * 통보문 1건의 행정구역별 영향 (만든 뒤 읽기 전용)
+     */
+    public static final class Impact {
+        private final HazardEvent event;
+        private final List<LocationDTO> locations;
+        private final float[] distanceKm; // [행정구역 번호]
+        private final byte[] band;        // [행정구역 번호] → messages 위치
+        private final List<String> messages;  // 영향 단계별 안내 문구 (가까운 단계 먼저)
+        private final boolean[] affected;     // 단계별 영향 범위 안 여부
+
+        private Impact(HazardEvent event, List<LocationDTO> locations, float[] distanceKm, byte[] band,
+                       List<String> messages, boolean[] affected) {
+            this.event = event;
+            this.locations = locations;
+            this.distanceKm = distanceKm;
+            this.band = band;
+            this.messages = messages;
+            this.affected = affected;
+        }
+
+        public HazardEvent getEvent() {
+            return event;
+        }
+    }
+
+    /**
+     * 한 행정구역에서 본 영향
+     */
+    public record RegionImpact(LocationDTO location, double distanceKm, String message) {}
+
+    // ================= 새 통보문 → 영향 지역 계산 =================
+    @EventListener
+    public void onHazard(HazardEvent event) {
+        Impact previous;
+        synchronized (latest) {
+            previous = latest.get(event.type());
+        }
+        if (previous != null && previous.event.key().compareTo(event.key()) > 0) return; // 더 오래된 통보문
+
+        Impact impact = event.lat() == 0 || event.lon() == 0 ? null : compute(event);
+        synchronized (latest) {
+            if (impact == null) latest.remove(event.type()); // 위치 불명: 이전 통보문 결과를 쓰지 않도록 비움
+            else latest.put(event.type(), impact);
+        }
+    }
+
+    private Impact compute(HazardEvent event) {
+        long start = System.nanoTime();
+        List<LocationDTO> locations = locationService.getLocations();
+        int n = locations.size();
+        float[] distance = new float[n];
+        byte[] band = new byte[n];
+
+        Map<String, Integer> bandOf = new LinkedHashMap<>();
+        List<Float> nearest = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            LocationDTO location = locations.get(i);
+            double dist = GridProjection.distanceKm(event.lat(), event.lon(), location.getLat(), location.getLon());
+            String message = safetyMessage(event.type(), event.intensity(), dist);
+            Integer b = bandOf.get(message);
+            if (b == null) {
+                b = bandOf.size();
+                bandOf.put(message, b);
+                nearest.add((float) dist);
+            }
+            distance[i] = (float) dist;
+            band[i] = b.byteValue();
+            if (dist < nearest.get(b)) nearest.set(b, (float) dist);
+        }
+
+        // 단계 번호를 가까운 단계부터 다시 매김
+        List<String> unordered = new ArrayList<>(bandOf.keySet());
+        Integer[] order = new Integer[unordered.size()];
+        for (int b = 0; b < order.length; b++) order[b] = b;
+        Arrays.sort(order, (a, b) -> Float.compare(nearest.get(a), nearest.get(b)));
+        byte[] rank = new byte[order.length];
+        List<String> messages = new ArrayList<>(order.length);
+        boolean[] affected = new boolean[order.length];
+        double range = event.type() == HazardType.EARTHQUAKE ? EARTHQUAKE_RANGE_KM : TYPHOON_RANGE_KM;
+        for (int r = 0; r < order.length; r++) {
+            rank[order[r]] = (byte) r;
+            messages.add(unordered.get(order[r]));
+            affected[r] = nearest.get(order[r]) <= range;
+        }
+        for (int i = 0; i < n; i++) band[i] = rank[band[i]];
+
+        log.info("🗺️ 재난 영향 지역 계산: {} {} ({}) 행정구역 {}곳, {}단계 ({}ms)", event.type(), event.title(), event.tmFc(),
+                n, messages.size(), (System.nanoTime() - start) / 1_000_000);
+        return new Impact(event, locations, distance, band, messages, affected);
+    }
+
+    // ================= 조회 =================
+
+    /**
+     * 위경도에서 가장 가까운 행정구역이 받는 영향 (최근 통보문 기준, 계산된 결과가 없으면 null)
+     */
+    public RegionImpact regionImpact(HazardType type, double lat, double lon) {
+        Impact impact = latest(type);
+        if (impact == null) return null;
+        List<LocationDTO> nearest = locationService.findNearest(lat, lon, 1);
+        if (nearest.isEmpty()) return null;
+
+        Integer i = indexOf(impact.locations).get(nearest.get(0));
+        if (i == null) return null;
+        return new RegionImpact(nearest.get(0), impact.distanceKm[i], impact.messages.get(impact.band[i]));
+    }
+
+    /**
+     * 영향 단계별 행정구역 목록 (/api/impact)
+     * - 영향 범위 밖 단계는 지역 수만 돌려줍니다.
+     */
+    public Map<String, Object> describe(HazardType type) {
+        Impact impact = latest(type);
+        if (impact == null) return null;
+
+        List<List<String>> names = new ArrayList<>();
+        for (int b = 0; b < impact.messages.size(); b++) names.add(new ArrayList<>());
+        int[] counts = new int[impact.messages.size()];
+        for (int i = 0; i < impact.locations.size(); i++) {
+            int b = impact.band[i];
+            counts[b]++;
+            if (impact.affected[b]) names.get(b).add(impact.locations.get(i).getFullName());
+        }
+
+        List<Map<String, Object>> bands = new ArrayList<>();
+        for (int b = 0; b < impact.messages.size(); b++) {
+            Map<String, Object> band = new LinkedHashMap<>();
+            band.put("message", impact.messages.get(b));
+            band.put("affected", impact.affected[b]);
+            band.put("count", counts[b]);
+            if (impact.affected[b]) band.put("regions", names.get(b));
+            bands.add(band);
+        }
+
+        HazardEvent event = impact.event;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("type", event.type());
+        result.put("title", event.title());
+        result.put("tmFc", event.tmFc());
+        result.put("lat", event.lat());
+        result.put("lon", event.lon());
+        result.put("intensity", event.intensity());
+        result.put("bands", bands);
+        return result;
+    }
+
+    private Impact latest(HazardType type) {
+        synchronized (latest) {
+            return latest.get(type);
+        }
+    }
+
+    // LocationDTO → 행정구역 번호 (행정구역 목록은 기동 후 바뀌지 않으므로 한 번만 만듦)
+    private Map<LocationDTO, Integer> indexOf(List<LocationDTO> locations) {
+        Map<LocationDTO, Integer> index = indexOf;
+        if (index == null) {
+            index = new IdentityHashMap<>(locations.size() * 2);
+            for (int i = 0; i < locations.size(); i++) index.put(locations.get(i), i);
+            indexOf = index;
+        }
+        return index;
+    }
+
+    // ================= 안전 안내 문구 (영향 단계) =================
+
+    public String safetyMessage(HazardType type, double intensity, double distanceKm) {
+        return type == HazardType.EARTHQUAKE
+                ? analyzeEarthquakeSafety(intensity, distanceKm)
+                : analyzeTyphoonSafety(intensity, distanceKm);
+    }
+
+    public String analyzeEarthquakeSafety(double magnitude, double distanceKm) {
+        if (distanceKm > EARTHQUAKE_RANGE_KM) return "거리가 멀어 영향이 거의 없습니다. 안심하세요.";
+        if (magnitude >= 5.0) {
+            if (distanceKm < 100) return "🚨 위험! 낙하물에 주의하고 즉시 안전한 곳으로 대피하세요.";
+            else return "진동이 느껴질 수 있습니다. 뉴스를 주시하세요.";
+        } else if (magnitude >= 3.0) {
+            if (distanceKm < 50) return "건물이 흔들릴 수 있습니다. 주의가 필요합니다.";
+            else return "민감한 분들은 진동을 느낄 수 있습니다.";
+        } else {
+            return "규모가 작아 별다른 피해는 없을 것으로 예상됩니다.";
+        }
+    }
+
+    public String analyzeTyphoonSafety(double windSpeed, double distanceKm) {
+        if (distanceKm > TYPHOON_RANGE_KM) return "아직 거리가 멉니다. 태풍 정보를 주시하세요.";
+        if (distanceKm < 300) {
+            if (windSpeed > 30) return "🚨 태풍의 직접 영향권입니다! 외출을 자제하세요.";
+            else return "태풍이 접근 중입니다. 비바람에 주의하세요.";
+        } else {
+            return "태풍의 간접 영향이 있을 수 있습니다. 우산을 챙기세요.";
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.solar.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solar.config.UpstreamHttpClients;
+import com.solar.util.ExpiringCache;
+import com.solar.util.SingleFlight;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 자외선 / 꽃가루(참나무·소나무·잡초류) 지수 (기상청 생활기상지수·보건기상지수)
+ * - 지수는 하루 두 번(06시, 18시)만 발표되므로 (지역 areaNo, 발표 시각) 단위로 한 번만 조회해 다음 발표까지 보관합니다.
+ * - 한 지역의 지수들은 가상 스레드로 동시에 조회하고, 꽃가루는 발표 기간(참나무·소나무 4~6월, 잡초류 8~10월)에만 호출합니다.
+ * - 같은 지역을 동시에 요청하면 첫 요청만 외부 API 를 호출합니다. (사전 적재 후에는 대시보드 요청마다 외부 호출 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LivingIndexService {
+
+    private static final String DEFAULT_AREA_NO = "1100000000"; // 서울
+    private static final long RETRY_AFTER_MS = 60_000;           // 일부 지수 조회 실패 시 이 시간 뒤 다시 조회
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final UpstreamHttpClients http;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final String API_KEY = "your_key"; // 공공데이터포털에서 발급받은 서비스키
+
+    public enum IndexType {
+        UV("http://apis.data.go.kr/1360000/LivingWthrIdxServiceV4/getUVIdxV4", 1, 12),                // 자외선지수조회
+        OAK("http://apis.data.go.kr/1360000/HealthWthrIdxServiceV4/getOakPollenRiskIdxV4", 4, 6),     // 참나무 꽃가루
+        PINE("http://apis.data.go.kr/1360000/HealthWthrIdxServiceV4/getPinePollenRiskIdxV4", 4, 6),   // 소나무 꽃가루
+        WEEDS("http://apis.data.go.kr/1360000/HealthWthrIdxServiceV4/getWeedsPollenRiskIdxV4", 8, 10); // 잡초류 꽃가루
+
+        private final String url;
+        private final int firstMonth;
+        private final int lastMonth;
+
+        IndexType(String url, int firstMonth, int lastMonth) {
+            this.url = url;
+            this.firstMonth = firstMonth;
+            this.lastMonth = lastMonth;
+        }
+
+        /** 해당 월에 발표되는 지수인지 */
+        public boolean inSeason(int month) {
+            return month >= firstMonth && month <= lastMonth;
+        }
+    }
+
+    /**
+     * 한 지역·한 발표분의 지수 (값은 h0 문자열, 발표 기간이 아니거나 조회 실패면 null)
+     * @param complete 발표 기간인 지수를 모두 받았는지
+     */
+    public record LivingIndex(String release, Map<IndexType, String> values, boolean complete) {
+        public String get(IndexType type) {
+            return values.get(type);
+        }
+    }
+
+    private record IndexKey(String areaNo, String release) {}
+
+    private final ExpiringCache<IndexKey, LivingIndex> cache = new ExpiringCache<>();
+    private final SingleFlight<IndexKey, LivingIndex> flights = new SingleFlight<>();
+
+    // ================= 조회 =================
+
+    /**
+     * 지역의 현재 발표분 지수 (캐시에 없으면 발표 기간인 지수를 동시에 조회)
+     */
+    public LivingIndex get(String areaNo) {
+        String safeAreaNo = (areaNo == null || areaNo.length() != 10) ? DEFAULT_AREA_NO : areaNo;
+        LocalDateTime now = LocalDateTime.now(KST);
+        IndexKey key = new IndexKey(safeAreaNo, releaseTime(now));
+
+        LivingIndex cached = cache.get(key);
+        if (cached != null) return cached;
+        return flights.execute(key, () -> {
+            LivingIndex again = cache.get(key); // 앞선 요청이 방금 채웠을 수 있음
+            if (again != null) return again;
+
+            LivingIndex loaded = load(key, now.getMonthValue());
+            Instant expiresAt = nextRelease(key.release());
+            if (!loaded.complete()) {
+                Instant retry = Instant.now().plusMillis(RETRY_AFTER_MS);
+                if (retry.isBefore(expiresAt)) expiresAt = retry;
+            }
+            cache.put(key, loaded, expiresAt);
+            return loaded;
+        });
+    }
+
+    private LivingIndex load(IndexKey key, int month) {
+        Map<IndexType, Future<String>> futures = new EnumMap<>(IndexType.class);
+        Map<IndexType, String> values = new EnumMap<>(IndexType.class);
+        boolean complete = true;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (IndexType type : IndexType.values()) {
+                if (!type.inSeason(month)) continue;
+                futures.put(type, executor.submit(() -> fetchIndex(type, key.areaNo(), key.release())));
+            }
+            for (Map.Entry<IndexType, Future<String>> entry : futures.entrySet()) {
+                try {
+                    String value = entry.getValue().get();
+                    if (value == null) complete = false;
+                    else values.put(entry.getKey(), value);
+                } catch (Exception e) {
+                    complete = false;
+                    log.warn("생활지수 조회 실패 ({} / {}): {}", entry.getKey(), key.areaNo(), e.getMessage());
+                }
+            }
+        }
+        return new LivingIndex(key.release(), values, complete);
+    }
+
+    // 정상 응답(resultCode=00)의 첫 item 의 h0 값 (없으면 null)
+    private String fetchIndex(IndexType type, String areaNo, String release) throws Exception {
+        URI uri = UriComponentsBuilder.fromUriString(type.url)
+                .queryParam("serviceKey", API_KEY)
+                .queryParam("pageNo", "1")
+                .queryParam("numOfRows", "10")
+                .queryParam("dataType", "JSON")
+                .queryParam("areaNo", areaNo)
+                .queryParam("time", release)
+                .build()
+                .toUri();
+
+        String json = http.dataGoKr().getForObject(uri, String.class);
+        JsonNode root = mapper.readTree(json);
+        if (!"00".equals(root.path("response").path("header").path("resultCode").asText())) return null;
+
+        JsonNode items = root.path("response").path("body").path("items").path("item");
+        if (items.isEmpty()) return null;
+        return items.get(0).path("h0").asText();
+    }
+
+    // =================  생활지수/보건지수 발표 시각 (06시, 18시 발표) =================
+    private String releaseTime(LocalDateTime now) {
+        if (now.getHour() < 6) return now.minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd18"));
+        else if (now.getHour() < 18) return now.format(DateTimeFormatter.ofPattern("yyyyMMdd06"));
+        else return now.format(DateTimeFormatter.ofPattern("yyyyMMdd18"));
+    }
+
+    // 다음 발표(06시 → 18시, 18시 → 다음날 06시) 시각
+    private Instant nextRelease(String release) {
+        LocalDateTime released = LocalDateTime.parse(release + "00", DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
+        return released.plusHours(12).atZone(KST).toInstant();
+    }
+}
@@ -1,19 +1,33 @@
 package com.solar.service; // 패키지명 확인
 
+import com.solar.dto.LocationDTO;
+import com.solar.util.GridProjection;
+import com.solar.util.KdTree;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
+@Slf4j
 @Service
 public class LocationService {
 
+    // 아래 표들은 기동 시 한 번 통째로 만든 뒤 교체하고 이후에는 읽기만 합니다.
     private Map<String, Set<String>> regionHierarchy = new TreeMap<>();
-    private Map<String, Point> coordinateMap = new HashMap<>();
+    private Map<String, Map<String, Point>> coordinateMap = new HashMap<>(); // 시/도 → 시/구/군 → 대표 좌표
+    private int coordinateCount;
+
+    // 전체 행정구역(읍/면/동 포함) 목록과 위경도 근접 검색용 k-d 트리
+    private List<LocationDTO> locations = new ArrayList<>();
+    private List<LocationDTO> provinces = new ArrayList<>(); // 시/도 대표 행 (region2 가 빈 행)
+    private KdTree<LocationDTO> nearestIndex = new KdTree<>(new double[0], new double[0], List.of());
 
     public static class Point {
         public final int nx;
@@ -29,62 +43,116 @@ public class LocationService {
         }
     }
 
+    /**
+     * 행정구역 좌표표(weather_location.csv) 로딩
+     * - 표는 지역 변수에 다 만든 뒤에만 교체하므로, 읽다 실패하면 반쯤 채운 표가 남지 않습니다.
+     * - 같은 지역 이름(여러 시/도의 "중구", "서구" 등)은 String 인스턴스 하나를 공유합니다.
+     */
     @PostConstruct
     public void loadCsv() {
-        try {
-            ClassPathResource resource = new ClassPathResource("weather_location.csv");
-            // 파이썬에서 utf-8-sig로 저장했으므로 UTF_8로 읽으면 됩니다.
-            BufferedReader br = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8));
-
-            String line;
-            boolean isHeader = true; // 첫 줄(제목) 건너뛰기용
-
-            while ((line = br.readLine()) != null) {
-                if (isHeader) { isHeader = false; continue; }
-
-                // csv 형식: Region1,Region2,Region3,nx,ny
-                String[] data = line.split(",", -1); // 빈 값도 포함해서 자르기
-
-                if (data.length < 7) continue;
-
-                String region1 = data[0].trim(); // 시/도
-                String region2 = data[1].trim(); // 시/구/군
-                if (region1.contains("이어도") || region2.contains("이어도")) {
-                    continue;
-                }
-                String region3 = data[2].trim(); // 읍/면/동
-
-                // 좌표 파싱
-                try {
-                    int nx = Integer.parseInt(data[3].trim());
-                    int ny = Integer.parseInt(data[4].trim());
-                    double lat = Double.parseDouble(data[5].trim()); // 위도
-                    double lon = Double.parseDouble(data[6].trim()); // 경도
-
-                    // 1. 시/도 목록 만들기
-                    if (!region1.isEmpty()) {
-                        regionHierarchy.putIfAbsent(region1, new TreeSet<>());
-
-                        // 2. 시/구/군 목록 만들기 (비어있지 않은 경우만)
-                        if (!region2.isEmpty()) {
-                            regionHierarchy.get(region1).add(region2);
-
-                            // 3. 좌표 매핑 (우리는 '시/도 + 시/구/군' 까지만 검색 키로 사용)
-                            // 주의: 읍/면/동(region3)이 없는 행을 우선적으로 좌표로 등록하거나,
-                            // 그냥 덮어씌워도 대략적인 위치는 맞습니다.
-                            coordinateMap.put(region1 + " " + region2, new Point(nx, ny, lat, lon));
-                        }
-                    }
-                } catch (NumberFormatException e) {
-                    continue; // 숫자가 아닌 행은 무시
-                }
+        long start = System.currentTimeMillis();
+        Tables tables = new Tables();
+        try (InputStream in = new ClassPathResource("weather_location.csv").getInputStream()) {
+            readCsv(in, tables);
+        } catch (Exception e) {
+            log.error("❌ weather_location.csv 파일 로딩 실패", e);
+            return;
+        }
+
+        publish(tables);
+        log.info("✅ 전국 기상청 좌표 로딩 완료! (총 {}개 2단계 지역, {}개 행정구역, {}ms)", coordinateCount,
+                locations.size(), System.currentTimeMillis() - start);
+    }
+
+    // csv 형식: Region1,Region2,Region3,nx,ny,lat,lon (제목 줄, 열이 모자란 줄, 숫자가 아닌 좌표는 건너뜀)
+    private static void readCsv(InputStream in, Tables tables) throws IOException {
+        // 파이썬에서 utf-8-sig로 저장했으므로 UTF_8로 읽으면 됩니다. (BOM 은 제목 줄과 함께 버려짐)
+        BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        boolean isHeader = true;
+        while ((line = br.readLine()) != null) {
+            if (isHeader) { isHeader = false; continue; }
+
+            String[] data = line.split(",", -1); // 빈 값도 포함해서 자르기
+            if (data.length < 7) continue;
+            try {
+                tables.addRow(data[0].trim(), data[1].trim(), data[2].trim(),
+                        Integer.parseInt(data[3].trim()), Integer.parseInt(data[4].trim()),
+                        Double.parseDouble(data[5].trim()), Double.parseDouble(data[6].trim()));
+            } catch (NumberFormatException e) {
+                // 숫자가 아닌 행은 무시
             }
-            System.out.println("✅ 전국 기상청 좌표 로딩 완료! (총 " + coordinateMap.size() + "개 2단계 지역)");
+        }
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            System.err.println("❌ weather_location.csv 파일 로딩 실패");
+    // 다 만든 표로 한 번에 교체 (근접 검색용 k-d 트리도 여기서 생성)
+    private void publish(Tables tables) {
+        double[] lats = new double[tables.locations.size()];
+        double[] lons = new double[tables.locations.size()];
+        for (int i = 0; i < tables.locations.size(); i++) {
+            lats[i] = tables.locations.get(i).getLat();
+            lons[i] = tables.locations.get(i).getLon();
+        }
+        nearestIndex = new KdTree<>(lats, lons, tables.locations);
+        regionHierarchy = tables.regionHierarchy;
+        coordinateMap = tables.coordinateMap;
+        coordinateCount = tables.coordinateCount;
+        locations = tables.locations;
+        provinces = tables.provinces;
+    }
+
+    // ================= 로딩 중인 표 (성공해야만 publish) =================
+    private static class Tables {
+        private final Map<String, Set<String>> regionHierarchy = new TreeMap<>();
+        private final Map<String, Map<String, Point>> coordinateMap = new HashMap<>();
+        private final List<LocationDTO> locations = new ArrayList<>();
+        private final List<LocationDTO> provinces = new ArrayList<>();
+        private final Map<String, String> names = new HashMap<>(); // 이름 공유용 (로딩 중에만 사용)
+        private int coordinateCount;
+
+        // 좌표표 한 행 반영
+        void addRow(String region1, String region2, String region3, int nx, int ny, double lat, double lon) {
+            if (region1.contains("이어도") || region2.contains("이어도")) return;
+            region1 = share(region1);
+            region2 = share(region2);
+            region3 = share(region3);
+
+            // 1. 시/도 목록 만들기
+            if (region1.isEmpty()) return;
+            regionHierarchy.putIfAbsent(region1, new TreeSet<>());
+            if (region2.isEmpty()) {
+                provinces.add(new LocationDTO(region1, "", "", nx, ny, lat, lon));
+                return;
+            }
+
+            // 2. 시/구/군 목록 만들기 (비어있지 않은 경우만)
+            regionHierarchy.get(region1).add(region2);
+
+            // 3. 좌표 매핑 (우리는 '시/도 + 시/구/군' 까지만 검색 키로 사용)
+            // 읍/면/동(region3)이 없는 행(시/구/군 대표 좌표)을 우선 등록하고, 없을 때만 첫 읍/면/동 좌표 사용
+            Map<String, Point> districts = coordinateMap.computeIfAbsent(region1, k -> new HashMap<>());
+            Point point = new Point(nx, ny, lat, lon);
+            Point previous = region3.isEmpty() ? districts.put(region2, point) : districts.putIfAbsent(region2, point);
+            if (previous == null) coordinateCount++;
+
+            // 4. 근접 검색용 전체 목록 (시/도 대표 행은 제외)
+            locations.add(new LocationDTO(region1, region2, region3, nx, ny, lat, lon));
         }
+
+        private String share(String name) {
+            String shared = names.putIfAbsent(name, name);
+            return shared != null ? shared : name;
+        }
+    }
+
+    /** 시/구/군, 읍/면/동 전체 행정구역 (읽기 전용) */
+    public List<LocationDTO> getLocations() {
+        return Collections.unmodifiableList(locations);
+    }
+
+    /** 시/도 대표 행정구역 (읽기 전용) */
+    public List<LocationDTO> getProvinces() {
+        return Collections.unmodifiableList(provinces);
     }
 
     public Set<String> getRegion1List() {
@@ -96,6 +164,27 @@ public class LocationService {
     }
 
     public Point getCoordinate(String region1, String region2) {
-        return coordinateMap.get(region1 + " " + region2);
+        Map<String, Point> districts = coordinateMap.get(region1);
+        return districts == null ? null : districts.get(region2);
+    }
+
+    /**
+     * 위경도가 속한 기상청 격자 (지역명 없이 좌표만 있을 때)
+     * @return 격자 범위(한반도 주변) 밖이면 null
+     */
+    public Point getCoordinate(double lat, double lon) {
+        int[] grid = GridProjection.toGrid(lat, lon);
+        if (!GridProjection.inGrid(grid[0], grid[1])) return null;
+        return new Point(grid[0], grid[1], lat, lon);
+    }
+
+    /**
+     * 위경도에서 가장 가까운 행정구역 k개 (가까운 순)
+     * - k-d 트리로 후보를 찾은 뒤 실제 거리(하버사인) 순으로 다시 정렬합니다.
+     */
+    public List<LocationDTO> findNearest(double lat, double lon, int k) {
+        List<LocationDTO> result = new ArrayList<>(nearestIndex.nearest(lat, lon, k));
+        result.sort(Comparator.comparingDouble(l -> GridProjection.distanceKm(lat, lon, l.getLat(), l.getLon())));
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,246 @@
+package com.solar.service;
+
+import com.solar.dto.SolarPredictionDTO;
+import com.solar.util.ExpiringCache;
+import com.solar.util.HourlyWeather;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 발전량 예측 비동기 작업
+ * - 예측 요청을 받으면 작업 id 만 바로 돌려주고, 실제 예측은 가상 스레드에서 실행합니다. (톰캣 요청 스레드 점유 없음)
+ * - 진행 상황(accepted → scored → done / failed)은 SSE 로 전달하고, 결과는 잠시 보관했다가 결과 페이지에서 꺼내 씁니다.
+ * - 동기 /predict 도 같은 buildReport 를 사용하므로 결과 화면 값은 두 경로가 동일합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PredictionJobService {
+
+    private static final int KWH_PRICE = 120;       // 1kWh 당 절약 금액 (원)
+    private static final double CO2_PER_KWH = 0.424; // 1kWh 당 탄소 저감량 (kg)
+
+    private final SolarPredictionService solarPredictionService;
+    private final TomorrowWeatherService tomorrowWeatherService;
+
+    @Value("${solar.job.result-ttl-ms:600000}")
+    private long resultTtlMs;
+
+    @Value("${solar.job.sse-timeout-ms:60000}")
+    private long sseTimeoutMs;
+
+    private final ExpiringCache<String, Job> jobs = new ExpiringCache<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 예측 입력 (/predict 폼 값과 동일, 격자 nx/ny 를 모르면 -1)
+     */
+    public record Request(int nx, int ny, double capacity, double temp, double cloud, double radiation, double humidity,
+                          double rain, double snow, double wind, double sunshine, double lat, double lon,
+                          String region1, String region2) {}
+
+    // ================= 작업 상태 =================
+    public static class Job {
+        private final String id;
+        private final List<Map<String, Object>> events = new ArrayList<>(); // 지금까지 발생한 진행 이벤트
+        private final List<SseEmitter> emitters = new ArrayList<>();
+        private String status = "accepted";
+        private Map<String, Object> result;
+
+        Job(String id) {
+            this.id = id;
+        }
+
+        public synchronized String getStatus() {
+            return status;
+        }
+
+        public synchronized Map<String, Object> getResult() {
+            return result;
+        }
+
+        synchronized boolean isFinished() {
+            return "done".equals(status) || "failed".equals(status);
+        }
+    }
+
+    /**
+     * 예측 작업을 등록하고 바로 작업 id 를 돌려줍니다.
+     */
+    public String submit(Request request) {
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.id, job, Instant.now().plusMillis(resultTtlMs));
+        publish(job, "accepted", Map.of("message", "예측 요청 접수"), null);
+
+        executor.submit(() -> run(job, request));
+        return job.id;
+    }
+
+    public Job getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    /**
+     * 작업 진행 이벤트 구독 (SSE)
+     * - 이미 지나간 이벤트를 먼저 다시 보내고, 작업이 끝났으면 바로 스트림을 닫습니다.
+     * @return 작업이 없거나 만료되었으면 null
+     */
+    public SseEmitter subscribe(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) return null;
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        // 아직 응답에 연결되지 않은 emitter 라 지난 이벤트 재전송은 메모리에만 쌓임 (잠금 안에서 보내도 네트워크 대기 없음)
+        synchronized (job) {
+            try {
+                for (Map<String, Object> event : job.events) {
+                    emitter.send(SseEmitter.event().name((String) event.get("stage")).data(event));
+                }
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            if (job.isFinished()) {
+                emitter.complete();
+                return emitter;
+            }
+            job.emitters.add(emitter);
+        }
+        Runnable remove = () -> {
+            synchronized (job) {
+                job.emitters.remove(emitter);
+            }
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    private void run(Job job, Request request) {
+        long start = System.currentTimeMillis();
+        try {
+            Map<String, Object> report = buildReport(request, stage -> publish(job, stage, Map.of(), null));
+            publish(job, "done", Map.of("resultUrl", "/predict/result/" + job.id,
+                    "elapsedMs", System.currentTimeMillis() - start), report);
+        } catch (Exception e) {
+            log.error("발전량 예측 작업 실패: {}", job.id, e);
+            publish(job, "failed", Map.of("message", "예측 중 오류가 발생했습니다."), null);
+        }
+    }
+
+    // 진행 이벤트 기록 + 구독 중인 SSE 로 전송 (종료 이벤트면 스트림도 닫음)
+    private void publish(Job job, String stage, Map<String, Object> data, Map<String, Object> result) {
+        Map<String, Object> event = new LinkedHashMap<>(data);
+        event.put("jobId", job.id);
+        event.put("stage", stage);
+
+        // 상태 기록과 구독자 목록 복사만 잠금 안에서 하고, 네트워크 전송은 잠금 밖에서
+        // (느린 클라이언트 때문에 상태 조회/구독이 막히지 않도록, 한 작업의 publish 는 한 스레드에서 차례로 호출됨)
+        List<SseEmitter> targets;
+        boolean finished;
+        synchronized (job) {
+            job.status = stage;
+            if (result != null) job.result = result;
+            job.events.add(event);
+
+            finished = job.isFinished();
+            targets = List.copyOf(job.emitters);
+            if (finished) job.emitters.clear();
+        }
+
+        for (SseEmitter emitter : targets) {
+            try {
+                emitter.send(SseEmitter.event().name(stage).data(event));
+                if (finished) emitter.complete();
+            } catch (Exception e) {
+                synchronized (job) {
+                    job.emitters.remove(emitter); // 클라이언트가 먼저 연결을 끊은 경우
+                }
+            }
+        }
+    }
+
+    /**
+     * 결과 화면(result.html)에 넣을 값 계산
+     * - 격자를 알면 내일 시간별 예보 행렬로, 모르면(또는 예보가 없으면) 폼의 대표 날씨 값으로 1kW 기준 예측합니다.
+     * - 1kW 기준 예측 후 설비 용량을 곱하고, 예측에 실패하면 기본 계산식(용량 × 일사량 × 0.85)으로 대체합니다.
+     * @param progress 단계 알림 (scored)
+     */
+    public Map<String, Object> buildReport(Request request, Consumer<String> progress) {
+        double capacity = request.capacity();
+        double dailyGen;
+        StringBuilder hourlyHtml = new StringBuilder();
+
+        long start = System.nanoTime();
+        SolarPredictionDTO prediction = predictPerKw(request);
+        progress.accept("scored");
+
+        if (prediction != null) {
+            double predictedOneKw = prediction.getTotal();
+            dailyGen = predictedOneKw * capacity;
+            log.info("✅ [AI 예측 성공] {} {} 1kW당: {} kWh -> 총 발전량: {} kWh ({}ms)", request.region1(), request.region2(),
+                    predictedOneKw, dailyGen, Duration.ofNanos(System.nanoTime() - start).toMillis());
+
+            hourlyHtml.append("<div style='text-align: left; font-size: 0.9rem;'>");
+            for (SolarPredictionDTO.HourlyGeneration hourly : prediction.getHourly()) {
+                double v = hourly.getValue() * capacity;
+                hourlyHtml.append(String.format("<b>%02d시:</b> %.2f kW<br>", hourly.getHour(), v));
+            }
+            hourlyHtml.append("</div>");
+        } else {
+            log.warn("❌ AI 예측 실패, 기본 계산식으로 대체합니다. ({} {})", request.region1(), request.region2());
+            dailyGen = capacity * request.radiation() * 0.85;
+            hourlyHtml.append("상세 데이터 로드 실패");
+        }
+
+        // 결과 가공
+        int savingMoney = (int) (dailyGen * KWH_PRICE);
+        double co2 = dailyGen * CO2_PER_KWH;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("gen", String.format("%.2f", dailyGen));
+        report.put("money", String.format("%,d", savingMoney));
+        report.put("co2", String.format("%.2f", co2));
+        report.put("capacity", capacity);
+        report.put("temp", request.temp());
+        report.put("region1", request.region1());
+        report.put("region2", request.region2());
+        report.put("hourlyList", hourlyHtml.toString());
+        return report;
+    }
+
+    // 시간별 예보 행렬 우선, 없으면 대표 날씨 값 하나로 예측
+    private SolarPredictionDTO predictPerKw(Request request) {
+        HourlyWeather weather = request.nx() > 0 && request.ny() > 0
+                ? tomorrowWeatherService.getHourlyWeather(request.nx(), request.ny()) : null;
+        if (weather != null && weather.hasDay(0)) {
+            List<SolarPredictionDTO> results = solarPredictionService.predictHourlyPerKw(List.of(
+                    new SolarPredictionService.HourlySite(request.nx(), request.ny(), request.lat(), request.lon(), weather, 0)));
+            return results == null ? null : results.get(0);
+        }
+        return solarPredictionService.predictPerKw(request.nx(), request.ny(), request.lat(), request.lon(), request.temp(),
+                request.cloud(), request.wind(), request.humidity(), request.rain(), request.snow());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
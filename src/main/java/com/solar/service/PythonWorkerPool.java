@@ -0,0 +1,394 @@
+package com.solar.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상주형 파이썬 예측 워커 풀 (predict_worker.py)
+ * - 요청마다 python 프로세스를 새로 띄우지 않고, 모델을 읽어 둔 워커 N개를 계속 재사용합니다.
+ * - 요청/응답은 stdin/stdout 한 줄 JSON(요청 id 포함)으로 주고받습니다. stderr 는 로그로 흘려보냅니다.
+ * - 워커 1개는 한 번에 요청 1개만 처리하며, 동시 처리 수는 워커 수로 제한됩니다.
+ * - 대기열이 가득 차면 바로 거절하고(backpressure), 응답 시간이 초과된 워커는 종료 후 새로 띄웁니다.
+ * - 워커 종료/재시작은 가상 스레드에서 처리하므로 요청 스레드는 워커 기동(모델 로딩)을 기다리지 않고,
+ *   남은 워커를 쓰거나 null(호출한 쪽 Fallback)을 받습니다.
+ * - 죽은 워커는 주기적으로 정리(reap)하고, 시작에 실패해 모자란 워커도 다시 채웁니다. 상태는 /api/monitor/workers 에서 확인합니다.
+ */
+@Slf4j
+@Service
+public class PythonWorkerPool {
+
+    @Value("${solar.worker.size:2}")
+    private int size;
+
+    @Value("${solar.worker.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${solar.worker.timeout-ms:5000}")
+    private long timeoutMs;
+
+    @Value("${solar.worker.startup-timeout-ms:60000}")
+    private long startupTimeoutMs;
+
+    @Value("${solar.worker.python:python}")
+    private String pythonCommand;
+
+    // 상대 경로면 실행 위치(user.dir) 기준
+    @Value("${solar.worker.script:predict_worker.py}")
+    private String script;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicLong requestIds = new AtomicLong();
+    private final AtomicLong workerIds = new AtomicLong();
+
+    private final BlockingQueue<Worker> idle = new LinkedBlockingQueue<>();
+    private final Set<Worker> workers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger spawning = new AtomicInteger(); // 기동 중인 워커 수 (보충 중복 방지)
+    private volatile Semaphore admission; // 처리 중 + 대기 중 요청 상한
+    private volatile boolean started;
+    private volatile boolean closed;
+
+    // 통계
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder restarts = new LongAdder();
+
+    /**
+     * 워커를 띄웁니다. (여러 번 호출해도 한 번만 실행)
+     */
+    public synchronized void start() {
+        if (started || closed) return;
+        started = true;
+        admission = new Semaphore(size + queueCapacity);
+        for (int i = 0; i < size; i++) {
+            Worker worker = spawn();
+            if (worker != null) idle.offer(worker);
+        }
+        log.info("🐍 파이썬 예측 워커 풀 시작: 워커 {}개, 대기열 {}, 타임아웃 {}ms", size, queueCapacity, timeoutMs);
+    }
+
+    public boolean isStarted() {
+        return started && !closed;
+    }
+
+    /**
+     * 특징 행들을 워커 1개에 보내 예측값을 받습니다.
+     * @return 행별 예측값, 거절/타임아웃/실패 시 null
+     */
+    public double[] predict(float[][] rows) {
+        if (!isStarted()) return null;
+        if (!admission.tryAcquire()) {
+            rejected.increment();
+            log.warn("예측 워커 대기열 초과로 요청 거절 (대기 {}건)", queueDepth.get());
+            return null;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        Worker worker = null;
+        try {
+            queueDepth.incrementAndGet();
+            try {
+                // 죽은 워커는 교체를 맡기고(비동기) 다른 대기 워커를 기다림
+                while ((worker = idle.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != null && !worker.isAlive()) {
+                    replace(worker);
+                }
+            } finally {
+                queueDepth.decrementAndGet();
+            }
+            if (worker == null) {
+                timeouts.increment();
+                log.warn("예측 워커 대기 시간 초과 ({}ms)", timeoutMs);
+                return null;
+            }
+
+            inFlight.incrementAndGet();
+            try {
+                double[] result = worker.call(rows, deadline);
+                completed.increment();
+                return result;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            log.warn("예측 워커 응답 시간 초과, 워커 재시작: {}", worker);
+            replace(worker);
+            worker = null;
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("예측 워커 호출 실패: {} ({})", worker, e.getMessage());
+            if (worker != null && !worker.isAlive()) {
+                replace(worker);
+                worker = null;
+            }
+            return null;
+        } finally {
+            if (worker != null) release(worker);
+            admission.release();
+        }
+    }
+
+    // 사용이 끝난 워커 반납 (풀이 닫혔으면 종료)
+    private void release(Worker worker) {
+        if (closed) {
+            workers.remove(worker);
+            worker.destroy();
+        } else {
+            idle.offer(worker);
+        }
+    }
+
+    // 문제가 생긴 워커를 풀에서 빼고, 종료와 새 워커 기동은 가상 스레드에서 처리 (요청 스레드는 기다리지 않음)
+    private void replace(Worker worker) {
+        workers.remove(worker);
+        Thread.ofVirtual().name("py-worker-" + worker.id + "-stop").start(worker::destroy);
+        if (closed) return;
+        restarts.increment();
+        spawnAsync();
+    }
+
+    // 새 워커를 백그라운드에서 띄워 준비되면 대기열에 넣음 (실패하면 reapDeadWorkers 가 다시 채움)
+    private void spawnAsync() {
+        spawning.incrementAndGet();
+        Thread.ofVirtual().name("py-worker-spawn").start(() -> {
+            try {
+                Worker worker = spawn();
+                if (worker != null) release(worker);
+            } finally {
+                spawning.decrementAndGet();
+            }
+        });
+    }
+
+    private Worker spawn() {
+        try {
+            Worker worker = new Worker(workerIds.incrementAndGet());
+            worker.awaitReady(startupTimeoutMs);
+            workers.add(worker);
+            return worker;
+        } catch (Exception e) {
+            log.error("예측 워커 시작 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // ================= 죽은 워커 정리 및 보충 (30초마다) =================
+    @Scheduled(fixedDelay = 30_000, initialDelay = 30_000)
+    public void reapDeadWorkers() {
+        if (!isStarted()) return;
+
+        // 대기 중인 워커 중 종료된 것 정리
+        for (Worker worker : idle) {
+            if (!worker.isAlive() && idle.remove(worker)) {
+                log.warn("종료된 예측 워커 정리: {} (exit={})", worker, worker.exitCode());
+                workers.remove(worker);
+                worker.destroy();
+            }
+        }
+        // 시작/재시작 실패 등으로 모자란 워커 보충 (기동 중인 워커는 제외)
+        int missing = size - workers.size() - spawning.get();
+        for (int i = 0; i < missing; i++) {
+            restarts.increment();
+            spawnAsync();
+        }
+    }
+
+    /** 모니터링용 상태 스냅샷 */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("started", isStarted());
+        map.put("size", size);
+        map.put("alive", workers.stream().filter(Worker::isAlive).count());
+        map.put("spawning", spawning.get());
+        map.put("idle", idle.size());
+        map.put("inFlight", inFlight.get());
+        map.put("queueDepth", queueDepth.get());
+        map.put("queueCapacity", queueCapacity);
+        map.put("completed", completed.sum());
+        map.put("failed", failed.sum());
+        map.put("timeouts", timeouts.sum());
+        map.put("rejected", rejected.sum());
+        map.put("restarts", restarts.sum());
+        return map;
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        workers.forEach(Worker::destroy);
+        workers.clear();
+        idle.clear();
+    }
+
+    // ================= 워커 프로세스 1개 =================
+    private class Worker {
+        private final long id;
+        private final Process process;
+        private final BufferedWriter stdin;
+        private final CompletableFuture<JsonNode> ready = new CompletableFuture<>();
+        private volatile long pendingId = -1;
+        private volatile CompletableFuture<JsonNode> pending;
+        private volatile boolean exited; // stdout 이 닫힘 (프로세스가 아직 회수되지 않았어도 더는 응답을 못 받음)
+
+        Worker(long id) throws IOException {
+            this.id = id;
+            Path scriptPath = Path.of(System.getProperty("user.dir")).resolve(script);
+            ProcessBuilder pb = new ProcessBuilder(pythonCommand, "-u", scriptPath.toString());
+            pb.environment().put("PYTHONIOENCODING", "utf-8");
+            this.process = pb.start();
+            this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+
+            Thread.ofVirtual().name("py-worker-" + id + "-out").start(this::readResponses);
+            Thread.ofVirtual().name("py-worker-" + id + "-err").start(this::readLogs);
+        }
+
+        void awaitReady(long timeoutMs) throws Exception {
+            try {
+                JsonNode message = ready.get(timeoutMs, TimeUnit.MILLISECONDS);
+                if (!message.path("ready").asBoolean()) {
+                    throw new IOException(message.path("error").asText("워커 준비 실패"));
+                }
+                log.info("🐍 예측 워커 준비 완료: {} (pid={})", this, process.pid());
+            } catch (Exception e) {
+                destroy();
+                throw e;
+            }
+        }
+
+        // 워커는 한 번에 1건만 처리하므로 (풀에서 꺼낸 스레드만 호출) 요청/응답 1:1 대응
+        double[] call(float[][] rows, long deadlineNanos) throws Exception {
+            long requestId = requestIds.incrementAndGet();
+            CompletableFuture<JsonNode> future = new CompletableFuture<>();
+            pendingId = requestId;
+            pending = future;
+            // readResponses 가 먼저 끝났다면 이 요청의 응답을 받아 줄 스레드가 없음
+            if (exited) throw new IOException("예측 워커 종료됨 (exit=" + exitCode() + ")");
+
+            ObjectNode request = mapper.createObjectNode();
+            request.put("id", requestId);
+            ArrayNode rowsNode = request.putArray("rows");
+            for (float[] row : rows) {
+                ArrayNode rowNode = rowsNode.addArray();
+                for (float v : row) rowNode.add(v);
+            }
+            stdin.write(mapper.writeValueAsString(request));
+            stdin.newLine();
+            stdin.flush();
+
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            JsonNode response = future.get(remaining, TimeUnit.NANOSECONDS);
+            if (response.has("error")) throw new IOException(response.path("error").asText());
+
+            JsonNode predictions = response.path("predictions");
+            if (predictions.size() != rows.length) throw new IOException("예측 결과 개수 불일치");
+            double[] result = new double[rows.length];
+            for (int i = 0; i < result.length; i++) result[i] = predictions.get(i).asDouble();
+            return result;
+        }
+
+        private void readResponses() {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    JsonNode message;
+                    try {
+                        message = mapper.readTree(line);
+                    } catch (Exception e) {
+                        log.warn("[🐍Worker-{}] JSON 이 아닌 출력 무시: {}", id, line);
+                        continue;
+                    }
+                    if (message.has("ready")) {
+                        ready.complete(message);
+                        continue;
+                    }
+                    // 타임아웃으로 버려진 이전 요청의 늦은 응답은 id 로 걸러냄
+                    CompletableFuture<JsonNode> future = pending;
+                    if (future != null && message.path("id").asLong(-2) == pendingId) future.complete(message);
+                }
+            } catch (IOException e) {
+                // 프로세스 종료 시 무시
+            }
+            exited = true;
+            IOException eof = new IOException("예측 워커 종료됨 (exit=" + exitCode() + ")");
+            ready.completeExceptionally(eof);
+            CompletableFuture<JsonNode> future = pending;
+            if (future != null) future.completeExceptionally(eof);
+        }
+
+        private void readLogs() {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    log.info("[🐍Worker-{}] {}", id, line);
+                }
+            } catch (IOException e) {
+                // 프로세스 종료 시 무시
+            }
+        }
+
+        boolean isAlive() {
+            return !exited && process.isAlive();
+        }
+
+        Integer exitCode() {
+            return process.isAlive() ? null : process.exitValue();
+        }
+
+        // 정상 종료 요청 후 1초 안에 끝나지 않으면 강제 종료하고 회수(waitFor)
+        void destroy() {
+            try {
+                stdin.close(); // stdin EOF → 워커 루프 종료
+            } catch (IOException ignored) {
+            }
+            process.destroy();
+            try {
+                if (!process.waitFor(1, TimeUnit.SECONDS)) {
+                    process.destroyForcibly().waitFor(1, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "worker-" + id;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.solar.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solar.dto.LocationDTO;
+import com.solar.util.Hangul;
+import com.solar.util.LruCache;
+import com.solar.util.PrefixIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 행정구역 이름 자동완성 검색 (시/도 · 시/구/군 · 읍/면/동 전체)
+ * - 이름, 이름 안의 시/군/구 단위 조각("창원시진해구" → "진해구"), 초성("ㅈㄹ")을 모두 접두어 색인에 넣습니다.
+ * - 순위: 이름이 검색어와 정확히 같은 것 → 상위 행정구역 → 짧은 이름 순
+ * - 행정구역 목록은 배포 전까지 바뀌지 않으므로 응답 JSON 을 바이트로 만들어 둡니다.
+ *   한 글자(첫 타) 검색어는 서버 기동 시 미리 만들고, 나머지는 LRU 캐시에 보관합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionSearchService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 30;
+    private static final int SCAN_LIMIT = 1000; // 접두어 하나당 순위 계산에 쓰는 최대 후보 수
+    private static final int MAX_QUERY_LENGTH = 20;
+    private static final Instant NEVER = Instant.MAX;
+
+    private final LocationService locationService;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Value("${region.search.cache-entries:2000}")
+    private int cacheEntries;
+
+    private PrefixIndex<LocationDTO> nameIndex;
+    private PrefixIndex<LocationDTO> choseongIndex;
+    private final Map<String, byte[]> precomputed = new HashMap<>();
+    private LruCache<String, byte[]> responseCache;
+
+    @PostConstruct
+    public void buildIndex() {
+        long start = System.currentTimeMillis();
+        PrefixIndex.Builder<LocationDTO> names = PrefixIndex.builder();
+        PrefixIndex.Builder<LocationDTO> choseong = PrefixIndex.builder();
+
+        List<LocationDTO> all = new ArrayList<>(locationService.getProvinces());
+        all.addAll(locationService.getLocations());
+        Set<String> firstChars = new LinkedHashSet<>();
+        for (LocationDTO location : all) {
+            for (String key : keysOf(location)) {
+                names.add(key, location);
+                choseong.add(Hangul.choseong(key), location);
+                firstChars.add(key.substring(0, 1));
+                firstChars.add(Hangul.choseong(key.substring(0, 1)));
+            }
+        }
+        nameIndex = names.build();
+        choseongIndex = choseong.build();
+        responseCache = new LruCache<>(cacheEntries);
+
+        // 첫 글자 검색 응답은 미리 직렬화
+        for (String first : firstChars) {
+            precomputed.put(cacheKey(first, DEFAULT_LIMIT), serialize(search(first, DEFAULT_LIMIT)));
+        }
+        log.info("🔎 행정구역 검색 색인 완료: 키 {}개, 미리 만든 응답 {}개 ({}ms)",
+                nameIndex.size(), precomputed.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 자동완성 응답 JSON (바이트)
+     */
+    public byte[] searchJson(String query, int limit) {
+        String q = normalize(query);
+        int size = Math.clamp(limit, 1, MAX_LIMIT);
+        String key = cacheKey(q, size);
+
+        byte[] body = precomputed.get(key);
+        if (body != null) return body;
+        body = responseCache.get(key);
+        if (body != null) return body;
+
+        body = serialize(search(q, size));
+        responseCache.put(key, body, NEVER);
+        return body;
+    }
+
+    /**
+     * 검색어로 시작하는 행정구역 (순위순, 최대 limit 개)
+     */
+    public List<LocationDTO> search(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty()) return List.of();
+
+        boolean byChoseong = Hangul.isChoseongOnly(q);
+        PrefixIndex<LocationDTO> index = byChoseong ? choseongIndex : nameIndex;
+
+        // 같은 행정구역이 여러 키로 걸리면 가장 좋은 순위 하나만 남김
+        Map<LocationDTO, Integer> best = new LinkedHashMap<>();
+        for (PrefixIndex.Match<LocationDTO> match : index.search(q, SCAN_LIMIT)) {
+            best.merge(match.value(), rank(match, q), Math::min);
+        }
+
+        List<Map.Entry<LocationDTO, Integer>> ranked = new ArrayList<>(best.entrySet());
+        ranked.sort(Map.Entry.<LocationDTO, Integer>comparingByValue()
+                .thenComparing(e -> e.getKey().getFullName(), Comparator.naturalOrder()));
+
+        List<LocationDTO> result = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < ranked.size() && i < limit; i++) result.add(ranked.get(i).getKey());
+        return result;
+    }
+
+    // 순위 점수 (작을수록 위): 정확히 일치 → 상위 행정구역 → 짧은 이름
+    private int rank(PrefixIndex.Match<LocationDTO> match, String query) {
+        LocationDTO location = match.value();
+        int exact = match.key().length() == query.length() ? 0 : 1;
+        int level = location.getRegion2().isEmpty() ? 1 : location.getRegion3().isEmpty() ? 2 : 3;
+        return exact * 100_000 + level * 1_000 + Math.min(location.getFullName().length(), 999);
+    }
+
+    // 색인 키: 가장 아래 단계 이름 + 이름 속 시/군/구 조각 (예: "창원시진해구" → "창원시진해구", "진해구")
+    private List<String> keysOf(LocationDTO location) {
+        String name = !location.getRegion3().isEmpty() ? location.getRegion3()
+                : !location.getRegion2().isEmpty() ? location.getRegion2()
+                : location.getRegion1();
+
+        List<String> keys = new ArrayList<>();
+        keys.add(name);
+        if (name.endsWith("구")) {
+            for (int i = 2; i < name.length() - 1; i++) {
+                char c = name.charAt(i - 1);
+                if (c == '시' || c == '군') keys.add(name.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private String normalize(String query) {
+        if (query == null) return "";
+        String q = query.strip().replace(" ", "");
+        return q.length() > MAX_QUERY_LENGTH ? q.substring(0, MAX_QUERY_LENGTH) : q;
+    }
+
+    private String cacheKey(String query, int limit) {
+        return limit + ":" + query;
+    }
+
+    private byte[] serialize(List<LocationDTO> locations) {
+        List<Map<String, Object>> items = new ArrayList<>(locations.size());
+        for (LocationDTO location : locations) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("name", location.getFullName());
+            item.put("region1", location.getRegion1());
+            item.put("region2", location.getRegion2());
+            item.put("region3", location.getRegion3());
+            item.put("nx", location.getNx());
+            item.put("ny", location.getNy());
+            item.put("lat", location.getLat());
+            item.put("lon", location.getLon());
+            items.add(item);
+        }
+        try {
+            return mapper.writeValueAsBytes(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,47 +1,16 @@
 package com.solar.service;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
-import java.util.Map;
-
-@Slf4j
 @Service
 public class SensibleTempService {
 
-    private final String AI_SERVER_URL = "http://localhost:5000/sensible";
-
     /**
-     * AI 서버 오류 시 기상청 공식(윈드칠/WBGT 근사식)을 적용하여 신뢰도 높은 데이터를 제공합니다.
+     * AI 서버를 거치지 않은 자체 수식 결과 (AiBundleClient 묶음 응답에 체감온도가 없을 때, 값이 없으면 0 으로 계산)
+     * - AI 서버 호출은 AiBundleClient(/bundle) 가 맡고, 이 서비스는 기상청 공식(윈드칠/WBGT 근사식) Fallback 만 제공합니다.
      */
-    public String getSensibleTemp(String tempStr, String humStr, String windStr) {
-        // 데이터 파싱
-        double temp = parseDouble(tempStr, 0.0);
-        double hum = parseDouble(humStr, 0.0);
-        double wind = parseDouble(windStr, 0.0);
-
-        // 1. AI 서버 (Linear Regression) 요청
-        try {
-            RestTemplate restTemplate = new RestTemplate();
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("temp", temp);
-            requestBody.put("hum", hum);
-            requestBody.put("wind", wind);
-
-            @SuppressWarnings("unchecked")
-            Map<String, Double> response = restTemplate.postForObject(AI_SERVER_URL, requestBody, Map.class);
-
-            if (response != null && response.containsKey("sensible_temp")) {
-                return String.valueOf(response.get("sensible_temp"));
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ 체감온도 AI 서버 연결 실패 (자체 수식 사용): {}", e.getMessage());
-        }
-
-        // 2. [Fallback] AI 실패 시 자체 수식 계산
-        return calculateFallbackSensibleTemp(temp, hum, wind);
+    public String getFallbackSensibleTemp(Double temp, Double hum, Double wind) {
+        return calculateFallbackSensibleTemp(temp != null ? temp : 0.0, hum != null ? hum : 0.0, wind != null ? wind : 0.0);
     }
 
     /**
@@ -68,12 +37,4 @@ public class SensibleTempService {
 
         return String.format("%.1f", result);
     }
-
-    private double parseDouble(String value, double defaultValue) {
-        try {
-            return Double.parseDouble(value);
-        } catch (Exception e) {
-            return defaultValue;
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.solar.service;
+
+import com.solar.dto.SiteRequestDTO;
+import com.solar.dto.SitePredictionDTO;
+import com.solar.dto.SolarPredictionDTO;
+import com.solar.util.HourlyWeather;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 여러 후보 부지의 발전량 일괄 예측
+ * - 지역명(또는 위경도) → 격자(nx, ny) 변환은 LocationService, 내일/모레 시간별 예보는 TomorrowWeatherService(예보 캐시) 를 사용합니다.
+ * - 같은 격자에 속한 부지들은 예보를 한 번만 조회하고, 서로 다른 격자는 가상 스레드로 동시에 조회합니다.
+ * - 모든 부지의 시간별 특징 행을 모아 모델을 한 번만 호출한 뒤, 부지별 설비 용량을 곱해 돌려줍니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SolarBatchService {
+
+    private final LocationService locationService;
+    private final TomorrowWeatherService tomorrowWeatherService;
+    private final SolarPredictionService solarPredictionService;
+
+    public List<SitePredictionDTO> predict(List<SiteRequestDTO> sites) {
+        long start = System.currentTimeMillis();
+
+        // 1. 지역 → 격자 좌표 (찾지 못한 부지는 error 만 채워서 건너뜀)
+        List<SitePredictionDTO> results = new ArrayList<>(sites.size());
+        Map<List<Integer>, HourlyWeather> weatherByGrid = new LinkedHashMap<>();
+        for (SiteRequestDTO site : sites) {
+            SitePredictionDTO result = new SitePredictionDTO();
+            result.setId(site.getId());
+            result.setRegion1(site.getRegion1());
+            result.setRegion2(site.getRegion2());
+            result.setCapacity(site.getCapacity());
+            results.add(result);
+
+            LocationService.Point point = resolve(site);
+            if (point == null) {
+                result.setError("좌표를 찾을 수 없습니다.");
+                continue;
+            }
+            if (site.getCapacity() <= 0) {
+                result.setError("설비 용량(capacity)은 0보다 커야 합니다.");
+                continue;
+            }
+            if (site.getDay() < 1 || site.getDay() > 2) {
+                result.setError("예측 날짜(day)는 1(내일) 또는 2(모레)만 가능합니다.");
+                continue;
+            }
+            result.setNx(point.nx);
+            result.setNy(point.ny);
+            result.setLat(site.getLat() != null ? site.getLat() : point.lat);
+            result.setLon(site.getLon() != null ? site.getLon() : point.lon);
+            weatherByGrid.put(List.of(point.nx, point.ny), null);
+        }
+
+        // 2. 격자별 시간별 예보 (중복 제거 후 동시 조회, 내일/모레가 한 행렬에 같이 들어 있음)
+        fetchWeather(weatherByGrid);
+
+        // 3. 예보가 있는 부지만 모아서 한 번에 예측
+        List<SitePredictionDTO> scored = new ArrayList<>();
+        List<SolarPredictionService.HourlySite> hourlySites = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            SitePredictionDTO result = results.get(i);
+            if (result.getError() != null) continue;
+            HourlyWeather weather = weatherByGrid.get(List.of(result.getNx(), result.getNy()));
+            int day = sites.get(i).getDay() - 1;
+            if (weather == null || !weather.hasDay(day)) {
+                result.setError("기상청 데이터를 가져오지 못했습니다.");
+                continue;
+            }
+            result.setDate(weather.date(day).toString());
+            scored.add(result);
+            hourlySites.add(new SolarPredictionService.HourlySite(
+                    result.getNx(), result.getNy(), result.getLat(), result.getLon(), weather, day));
+        }
+
+        List<SolarPredictionDTO> predictions = solarPredictionService.predictHourlyPerKw(hourlySites);
+        for (int i = 0; i < scored.size(); i++) {
+            SitePredictionDTO result = scored.get(i);
+            if (predictions == null) {
+                result.setError("발전량 예측에 실패했습니다.");
+                continue;
+            }
+            // 1kW 기준 예측값 × 설비 용량
+            SolarPredictionDTO perKw = predictions.get(i);
+            double capacity = result.getCapacity();
+            result.setTotal(round(perKw.getTotal() * capacity, 3));
+            for (SolarPredictionDTO.HourlyGeneration hourly : perKw.getHourly()) {
+                result.getHourly().add(new SolarPredictionDTO.HourlyGeneration(hourly.getHour(), round(hourly.getValue() * capacity, 3)));
+            }
+        }
+
+        log.info("⚡ 일괄 발전량 예측: 부지 {}곳, 격자 {}개, 예측 {}곳 ({}ms)",
+                sites.size(), weatherByGrid.size(), scored.size(), System.currentTimeMillis() - start);
+        return results;
+    }
+
+    // 지역명이 있으면 지역 대표 좌표, 없으면 위경도가 속한 격자
+    private LocationService.Point resolve(SiteRequestDTO site) {
+        if (site.getRegion1() != null && site.getRegion2() != null) {
+            return locationService.getCoordinate(site.getRegion1(), site.getRegion2());
+        }
+        if (site.getLat() != null && site.getLon() != null) {
+            return locationService.getCoordinate(site.getLat(), site.getLon());
+        }
+        return null;
+    }
+
+    // 격자별 내일 날씨를 가상 스레드로 동시에 조회 (실패한 격자는 null 유지)
+    private void fetchWeather(Map<List<Integer>, HourlyWeather> weatherByGrid) {
+        if (weatherByGrid.isEmpty()) return;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Map<List<Integer>, Future<HourlyWeather>> futures = new LinkedHashMap<>();
+            for (List<Integer> grid : weatherByGrid.keySet()) {
+                futures.put(grid, executor.submit(() -> tomorrowWeatherService.getHourlyWeather(grid.get(0), grid.get(1))));
+            }
+            for (Map.Entry<List<Integer>, Future<HourlyWeather>> entry : futures.entrySet()) {
+                try {
+                    weatherByGrid.put(entry.getKey(), entry.getValue().get());
+                } catch (Exception e) {
+                    log.warn("격자 {} 시간별 예보 조회 실패: {}", entry.getKey(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static double round(double value, int digits) {
+        double scale = Math.pow(10, digits);
+        return Math.round(value * scale) / scale;
+    }
+}
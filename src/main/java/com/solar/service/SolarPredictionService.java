@@ -0,0 +1,324 @@
+package com.solar.service;
+
+import com.solar.dto.SolarPredictionDTO;
+import com.solar.util.ForestModel;
+import com.solar.util.GridProjection;
+import com.solar.util.HourlyWeather;
+import com.solar.util.IrradianceEngine;
+import com.solar.util.LruCache;
+import com.solar.util.SingleFlight;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 태양광 발전량 예측 서비스 (Java 내장 추론)
+ * - predict.py 의 calculate_solar_engine 과 같은 방식으로 내일 06~19시 14개 시간대의 특징 벡터를 만들고,
+ *   학습된 랜덤 포레스트(data/solar_model.bin)로 바로 예측합니다. (파이썬 프로세스 실행 없음)
+ * - 모델 파일은 서버 기동 시 한 번만 메모리 매핑합니다.
+ * - 모델 파일이 없거나 solar.predictor=python 이면 상주 파이썬 워커 풀(PythonWorkerPool)로 예측합니다.
+ *
+ * 모델 파일 만들기)
+ *   python train_model.py   (학습 후 solar_model.bin 도 함께 저장)
+ *   python export_model.py  (이미 학습된 solar_model.pkl 만 변환)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SolarPredictionService {
+
+    // train_model.py 의 features 순서와 같아야 합니다.
+    // ['시간', '위도', '경도', 'temp', 'rain', 'wind', 'humidity', 'sunshine', 'radiation', 'snow', 'cloud']
+    private static final int FEATURE_COUNT = 11;
+    private static final int FIRST_HOUR = HourlyWeather.FIRST_HOUR;
+    private static final int LAST_HOUR = HourlyWeather.LAST_HOUR;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    @Value("${solar.model.path:data/solar_model.bin}")
+    private String modelPath;
+
+    // java: 내장 모델 우선 (없으면 파이썬 워커), python: 항상 파이썬 워커
+    @Value("${solar.predictor:java}")
+    private String predictor;
+
+    private final PythonWorkerPool pythonWorkerPool;
+
+    private volatile ForestModel model;
+
+    @Value("${solar.curve-cache.max-entries:5000}")
+    private int curveCacheMaxEntries;
+
+    // 1kW 기준 발전 곡선 캐시 (격자·발표분·날씨가 같으면 재사용)
+    private LruCache<CurveKey, SolarPredictionDTO> curveCache;
+
+    // 캐시에 없는 같은 곡선(들)을 동시에 요청하면 첫 요청만 모델을 호출 (key: 캐시에 없던 곡선 키 목록)
+    private final SingleFlight<List<CurveKey>, List<SolarPredictionDTO>> curveFlights = new SingleFlight<>();
+
+    @PostConstruct
+    public void loadModel() {
+        curveCache = new LruCache<>(curveCacheMaxEntries);
+
+        Path path = Path.of(modelPath);
+        if (!path.isAbsolute()) path = Path.of(System.getProperty("user.dir")).resolve(path);
+
+        if (!Files.exists(path)) {
+            log.warn("⚠️ 발전량 예측 모델 파일이 없습니다: {} (python export_model.py 로 생성)", path);
+            return;
+        }
+        try {
+            ForestModel loaded = ForestModel.load(path);
+            if (loaded.getFeatureCount() != FEATURE_COUNT) {
+                log.error("발전량 예측 모델 특징 개수 불일치: {} (기대값 {})", loaded.getFeatureCount(), FEATURE_COUNT);
+                return;
+            }
+            this.model = loaded;
+            log.info("🌲 발전량 예측 모델 로드 완료: {} (나무 {}그루)", path, loaded.getTreeCount());
+        } catch (Exception e) {
+            log.error("발전량 예측 모델 로드 실패: {}", path, e);
+        }
+    }
+
+    // 내장 모델을 쓸 수 없을 때만 파이썬 워커를 띄움 (서버 기동 완료 후)
+    @EventListener(ApplicationReadyEvent.class)
+    public void startFallbackWorkers() {
+        if (useJavaModel()) return;
+        Thread.ofVirtual().name("py-worker-start").start(pythonWorkerPool::start);
+    }
+
+    public boolean isAvailable() {
+        return useJavaModel() || pythonWorkerPool.isStarted();
+    }
+
+    private boolean useJavaModel() {
+        return model != null && !"python".equalsIgnoreCase(predictor);
+    }
+
+    /**
+     * 예측 입력 (부지 위치 + 격자 + 내일 대표 날씨)
+     * - nx, ny 를 모르면 -1 (이때는 위경도로 캐시 키를 구분)
+     */
+    public record Conditions(int nx, int ny, double lat, double lon, double temp, double cloud, double wind,
+                             double humidity, double rain, double snow) {
+
+        /**
+         * 캐시 키이자 실제 모델 입력 (키가 같으면 어느 부지가 먼저 요청했든 같은 곡선)
+         * - 날씨는 예보 정밀도로 양자화 (기상청 예보 단위: 기온/풍속/강수 0.1, 습도 1%, 구름 점수 0.1)
+         * - 격자를 알면 위경도를 격자 칸 중심(예보 단위 5km)으로 바꾸고, 모르면 0.01도(약 1km)로 양자화합니다.
+         */
+        Conditions normalized() {
+            double[] latLon = nx > 0 && ny > 0 ? GridProjection.toLatLon(nx, ny) : new double[]{q(lat, 100), q(lon, 100)};
+            return new Conditions(nx, ny, latLon[0], latLon[1], q(temp, 10), q(cloud, 10), q(wind, 10),
+                    q(humidity, 1), q(rain, 10), q(snow, 10));
+        }
+
+        private static double q(double value, int scale) {
+            return Math.round(value * scale) / (double) scale;
+        }
+    }
+
+    /**
+     * 시간별 예보 행렬로 예측할 부지 (day 0: 내일, 1: 모레)
+     */
+    public record HourlySite(int nx, int ny, double lat, double lon, HourlyWeather weather, int day) {
+
+        // 실제 모델 입력 (예보 행렬이 격자 칸 단위이므로 위경도도 격자 칸 중심으로 예측)
+        HourlySite normalized() {
+            double[] latLon = GridProjection.toLatLon(nx, ny);
+            return new HourlySite(nx, ny, latLon[0], latLon[1], weather, day);
+        }
+    }
+
+    // 시간별 예보 입력의 캐시 구분값 (같은 발표분·격자·날짜면 예보 행렬과 격자 칸 중심이 같으므로 격자 칸만 구분)
+    private record HourlyInputs(int nx, int ny) {}
+
+    // 1kW 기준 발전 곡선 캐시 키 (예측 대상 날짜 + 단기예보 발표분 + 입력: Conditions.normalized() 또는 HourlyInputs)
+    private record CurveKey(LocalDate targetDate, String release, Record inputs) {}
+
+    /**
+     * 내일 하루 시간별 발전량 예측 (설비 1kW 기준)
+     * @return 예측 결과, 모델이 없거나 파이썬 워커가 응답하지 못하면 null
+     */
+    public SolarPredictionDTO predictPerKw(int nx, int ny, double lat, double lon, double temp, double cloud, double wind,
+                                           double humidity, double rain, double snow) {
+        List<SolarPredictionDTO> results = predictPerKw(List.of(new Conditions(nx, ny, lat, lon, temp, cloud, wind, humidity, rain, snow)));
+        return results == null ? null : results.get(0);
+    }
+
+    /**
+     * 여러 부지를 한 번에 예측합니다. (설비 1kW 기준)
+     * - 발전량 = 1kW 예측 × 설비 용량 이므로, 1kW 곡선만 캐시하면 같은 격자의 모든 사용자가 용량과 무관하게 재사용합니다.
+     * - 캐시에 없는 부지만 모아 N곳 × 14시간 특징 행을 하나의 배열로 묶어 모델을 한 번만 호출합니다.
+     * - 반환하는 DTO 는 캐시와 공유되므로 수정하지 말고 읽기만 합니다.
+     * @return 입력 순서와 같은 예측 결과 목록, 실패 시 null
+     */
+    public List<SolarPredictionDTO> predictPerKw(List<Conditions> sites) {
+        LocalDateTime now = LocalDateTime.now(KST);
+        LocalDate targetDate = now.toLocalDate().plusDays(1);
+        String[] base = ForecastCache.Endpoint.VILAGE.currentBase(now);
+        String release = base[0] + base[1];
+
+        return predictCurves(sites.stream().map(Conditions::normalized).toList(),
+                site -> new CurveKey(targetDate, release, site),
+                site -> buildHourlyFeatures(site.lat(), site.lon(), site.temp(), site.cloud(), site.wind(),
+                        site.humidity(), site.rain(), site.snow(), targetDate));
+    }
+
+    /**
+     * 시간별 예보 행렬(내일/모레)로 여러 부지를 한 번에 예측합니다. (설비 1kW 기준)
+     * - 한낮 대표값 하나 대신 시간대마다 예보된 기온·구름·습도·풍속·강수를 그대로 특징으로 씁니다.
+     * - 예보가 없는 날(hasDay == false)을 넘기면 안 됩니다.
+     * @return 입력 순서와 같은 예측 결과 목록, 실패 시 null
+     */
+    public List<SolarPredictionDTO> predictHourlyPerKw(List<HourlySite> sites) {
+        return predictCurves(sites.stream().map(HourlySite::normalized).toList(),
+                site -> new CurveKey(site.weather().date(site.day()), site.weather().getRelease(),
+                        new HourlyInputs(site.nx(), site.ny())),
+                site -> buildHourlyFeatures(site.lat(), site.lon(), site.weather(), site.day()));
+    }
+
+    // 캐시 조회 → 없는 곡선만 특징 행을 모아 한 번에 예측 → 다음 발표분이 조회 가능해질 때까지 캐시
+    // (sites 는 normalized() 된 입력이므로 같은 키의 부지는 모두 같은 특징 행 → 어느 부지로 예측해도 같은 곡선)
+    private <S> List<SolarPredictionDTO> predictCurves(List<S> sites, Function<S, CurveKey> keyOf,
+                                                       Function<S, float[][]> features) {
+        if (sites.isEmpty()) return List.of();
+
+        // 1. 캐시 조회 (없는 키만 모아서 중복 제거)
+        SolarPredictionDTO[] results = new SolarPredictionDTO[sites.size()];
+        Map<CurveKey, List<Integer>> missing = new LinkedHashMap<>();
+        for (int i = 0; i < sites.size(); i++) {
+            CurveKey key = keyOf.apply(sites.get(i));
+            results[i] = curveCache.get(key);
+            if (results[i] == null) missing.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+        if (missing.isEmpty()) return List.of(results);
+
+        // 2. 없는 곡선만 한 번에 예측 (같은 곡선 목록을 동시에 요청하면 한 번만)
+        List<CurveKey> keys = List.copyOf(missing.keySet());
+        List<SolarPredictionDTO> curves = curveFlights.execute(keys,
+                () -> scoreCurves(keys, key -> features.apply(sites.get(missing.get(key).get(0)))));
+        if (curves == null) return null;
+
+        for (int i = 0; i < keys.size(); i++) {
+            for (int index : missing.get(keys.get(i))) results[index] = curves.get(i);
+        }
+        return List.of(results);
+    }
+
+    // 곡선 키 목록의 특징 행을 하나로 묶어 모델 1회 호출 → 결과 정리 + 캐시 (실패 시 null)
+    private List<SolarPredictionDTO> scoreCurves(List<CurveKey> keys, Function<CurveKey, float[][]> features) {
+        int hours = LAST_HOUR - FIRST_HOUR + 1;
+        float[][] rows = new float[keys.size() * hours][];
+        for (int i = 0; i < keys.size(); i++) {
+            System.arraycopy(features.apply(keys.get(i)), 0, rows, i * hours, hours);
+        }
+
+        double[] predictions = score(rows);
+        if (predictions == null) return null;
+
+        List<SolarPredictionDTO> curves = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            double total = 0.0;
+            List<SolarPredictionDTO.HourlyGeneration> hourly = new ArrayList<>(hours);
+            for (int h = 0; h < hours; h++) {
+                double pred = Math.max(0.0, predictions[i * hours + h]);
+                total += pred;
+                hourly.add(new SolarPredictionDTO.HourlyGeneration(FIRST_HOUR + h, round(pred, 3)));
+            }
+            SolarPredictionDTO curve = new SolarPredictionDTO(round(total, 4), hourly);
+            curveCache.put(keys.get(i), curve, expiresAt(keys.get(i).release()));
+            curves.add(curve);
+        }
+        return curves;
+    }
+
+    // 발표분(yyyyMMddHHmm)의 다음 발표분이 조회 가능해지는 시각
+    private Instant expiresAt(String release) {
+        return ForecastCache.Endpoint.VILAGE
+                .nextAvailable(LocalDateTime.parse(release, DateTimeFormatter.ofPattern("yyyyMMddHHmm")))
+                .atZone(KST).toInstant();
+    }
+
+    /** 모니터링용 발전 곡선 캐시 통계 (적중률, 퇴출 수 등) */
+    public Map<String, Object> curveCacheStats() {
+        return curveCache.snapshot();
+    }
+
+    // 특징 행 → 예측값 (내장 모델 또는 파이썬 워커)
+    private double[] score(float[][] rows) {
+        if (useJavaModel()) return model.predict(rows);
+        return pythonWorkerPool.predict(rows);
+    }
+
+    /**
+     * 06~19시 특징 벡터 14개 (predict.py calculate_solar_engine 과 동일)
+     * - 시간대별 이론 일사량/일조는 IrradianceEngine, 기온은 한낮(12~15시) +2도, 그 외 -2도 보정
+     */
+    private float[][] buildHourlyFeatures(double lat, double lon, double temp, double cloud, double wind,
+                                          double humidity, double rain, double snow, LocalDate targetDate) {
+        int hours = LAST_HOUR - FIRST_HOUR + 1;
+        double[] radiation = new double[hours];
+        double[] sunshine = new double[hours];
+        IrradianceEngine.hourly(lat, targetDate.getDayOfYear(), FIRST_HOUR, LAST_HOUR, cloud, radiation, sunshine);
+
+        float[][] rows = new float[hours][];
+        for (int hour = FIRST_HOUR; hour <= LAST_HOUR; hour++) {
+            int h = hour - FIRST_HOUR;
+            double currTemp = temp + ((hour >= 12 && hour <= 15) ? 2.0 : -2.0);
+
+            rows[h] = new float[]{
+                    hour, (float) lat, (float) lon,
+                    (float) currTemp, (float) rain, (float) wind,
+                    (float) humidity, (float) sunshine[h],
+                    (float) radiation[h], (float) snow, (float) cloud
+            };
+        }
+        return rows;
+    }
+
+    /**
+     * 06~19시 특징 벡터 14개 (시간별 예보 행렬의 day 번째 날)
+     * - 기온 보정 없이 시간대별 예보 기온을 쓰고, 일사량/일조는 시간대별 구름 점수로 IrradianceEngine 에서 계산합니다.
+     */
+    private float[][] buildHourlyFeatures(double lat, double lon, HourlyWeather weather, int day) {
+        int hours = LAST_HOUR - FIRST_HOUR + 1;
+        double[] cloud = new double[hours];
+        for (int hour = FIRST_HOUR; hour <= LAST_HOUR; hour++) cloud[hour - FIRST_HOUR] = weather.cloud(day, hour);
+        double[] radiation = new double[hours];
+        double[] sunshine = new double[hours];
+        IrradianceEngine.hourly(lat, weather.date(day).getDayOfYear(), FIRST_HOUR, cloud, radiation, sunshine);
+
+        float[][] rows = new float[hours][];
+        for (int hour = FIRST_HOUR; hour <= LAST_HOUR; hour++) {
+            int h = hour - FIRST_HOUR;
+            rows[h] = new float[]{
+                    hour, (float) lat, (float) lon,
+                    weather.temp(day, hour), weather.rain(day, hour), weather.wind(day, hour),
+                    weather.humidity(day, hour), (float) sunshine[h],
+                    (float) radiation[h], weather.snow(day, hour), (float) cloud[h]
+            };
+        }
+        return rows;
+    }
+
+    private static double round(double value, int digits) {
+        double scale = Math.pow(10, digits);
+        return Math.round(value * scale) / scale;
+    }
+}
@@ -2,6 +2,9 @@ package com.solar.service;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
 import java.io.BufferedReader;
@@ -16,6 +19,8 @@ import java.util.List;
 @Service
 public class TelegramBotRunner {
 
+    private final Environment environment;
+
     private Process pythonBotProcess; // 텔레그램 봇 프로세스
     private Process pythonApiProcess; // FastAPI 서버 프로세스
 
@@ -25,6 +30,10 @@ public class TelegramBotRunner {
             "joblib", "requests", "geopy", "python-telegram-bot", "numpy"
     );
 
+    public TelegramBotRunner(Environment environment) {
+        this.environment = environment;
+    }
+
     @PostConstruct
     public void startPythonScripts() {
         System.out.println("🚀 [System] Spring Boot와 함께 파이썬 서비스들을 시작합니다...");
@@ -38,12 +47,33 @@ public class TelegramBotRunner {
         String projectPath = System.getProperty("user.dir");
 
         // ---------------------------------------------------------
-        // 1. 텔레그램 봇 실행 (predict.py)
+        // AI API 서버 실행 (ai_server.py)
+        // (텔레그램 봇은 이 서버의 /api/irradiance 를 쓰므로 서버 기동 완료 후 startTelegramBot 에서 실행)
         // ---------------------------------------------------------
         try {
-            String botScriptPath = projectPath + File.separator + "predict.py";
+            String apiScriptPath = projectPath + File.separator + "ai_server.py";
+            ProcessBuilder pbApi = new ProcessBuilder("python", "-u", apiScriptPath);
+            pbApi.redirectErrorStream(true);
+            pythonApiProcess = pbApi.start();
+
+            // 로그 출력 스레드 (API)
+            startLogger(pythonApiProcess, "[📡API]");
+
+        } catch (Exception e) {
+            System.err.println("❌ AI 서버 실행 실패: " + e.getMessage());
+        }
+    }
+
+    // ---------------------------------------------------------
+    // 텔레그램 봇 실행 (predict.py) - 서버가 실제로 열린 포트/컨텍스트 경로를 SOLAR_SERVER_URL 로 전달
+    // ---------------------------------------------------------
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTelegramBot() {
+        try {
+            String botScriptPath = System.getProperty("user.dir") + File.separator + "predict.py";
             // -u 옵션: 로그 버퍼링 없이 즉시 출력
             ProcessBuilder pbBot = new ProcessBuilder("python", "-u", botScriptPath);
+            pbBot.environment().put("SOLAR_SERVER_URL", serverUrl());
             pbBot.redirectErrorStream(true);
             pythonBotProcess = pbBot.start();
 
@@ -53,22 +83,14 @@ public class TelegramBotRunner {
         } catch (Exception e) {
             System.err.println("❌ 텔레그램 봇 실행 실패: " + e.getMessage());
         }
+    }
 
-        // ---------------------------------------------------------
-        // 2. AI API 서버 실행 (ai_server.py)
-        // ---------------------------------------------------------
-        try {
-            String apiScriptPath = projectPath + File.separator + "ai_server.py";
-            ProcessBuilder pbApi = new ProcessBuilder("python", "-u", apiScriptPath);
-            pbApi.redirectErrorStream(true);
-            pythonApiProcess = pbApi.start();
-
-            // 로그 출력 스레드 (API)
-            startLogger(pythonApiProcess, "[📡API]");
-
-        } catch (Exception e) {
-            System.err.println("❌ AI 서버 실행 실패: " + e.getMessage());
-        }
+    // 이 서버의 주소 (local.server.port: 기동 후 실제로 열린 포트, server.port=0 이어도 정확)
+    private String serverUrl() {
+        String port = environment.getProperty("local.server.port", environment.getProperty("server.port", "8080"));
+        String contextPath = environment.getProperty("server.servlet.context-path", "");
+        if (contextPath.endsWith("/")) contextPath = contextPath.substring(0, contextPath.length() - 1);
+        return "http://localhost:" + port + contextPath;
     }
 
     // ✅ [핵심 기능] 파이썬 라이브러리 자동 설치
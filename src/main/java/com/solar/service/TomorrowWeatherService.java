@@ -1,54 +1,74 @@
 package com.solar.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solar.util.ExpiringCache;
+import com.solar.util.GridProjection;
+import com.solar.util.HourlyWeather;
+import com.solar.util.IrradianceEngine;
+import com.solar.util.KmaCategory;
+import com.solar.util.KmaForecast;
+import com.solar.util.SingleFlight;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.net.URI;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class TomorrowWeatherService {
 
-    // 🔑 Open API 인증 키 (Service Key)
-    private static final String SERVICE_KEY = "your_key";
-    // 🌐 기상청 단기예보 조회 URL
-    private static final String API_URL = "http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getVilageFcst";
+    // 🗂️ 단기예보 공용 캐시 (WeatherService 와 같은 발표분을 공유)
+    private final ForecastCache forecastCache;
+
+    // 같은 격자 동시 요청 합치기 (/api/weather 폭주 시 격자당 1회만 계산)
+    private final SingleFlight<List<Integer>, Map<String, Object>> gridFlights = new SingleFlight<>();
+    private final SingleFlight<HourlyKey, HourlyWeather> hourlyFlights = new SingleFlight<>();
+
+    // 시간별 예보 행렬 (key: 발표분 + 첫날(내일) + 격자, 다음 발표분이 조회 가능해지면 만료)
+    // 23시 발표분은 다음날 02:10 무렵까지 최신이므로, 자정이 지나면 같은 발표분이라도 '내일'이 바뀌어 따로 만듭니다.
+    private final ExpiringCache<HourlyKey, HourlyWeather> hourlyCache = new ExpiringCache<>();
+
+    private record HourlyKey(String release, LocalDate firstDate, int nx, int ny) {}
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int FORECAST_DAYS = 2; // 내일(D+1), 모레(D+2)
+
+    // 예보 항목이 하루 종일 비어 있을 때의 기본값 (predict.py calculate_solar_engine 기본값과 동일)
+    private static final float DEFAULT_TEMP = 20.0f;
+    private static final float DEFAULT_CLOUD = 5.0f;
+    private static final float DEFAULT_WIND = 2.0f;
+    private static final float DEFAULT_HUMIDITY = 60.0f;
 
     /**
      * 1. 메인 메서드: 내일 날씨 조회
      * - Controller에서 호출하는 진입점입니다.
-     * - 격자 좌표(nx, ny)를 받아 기상청 API를 호출하고, 결과를 파싱하여 반환합니다.
+     * - 같은 격자(nx, ny)를 동시에 조회하면 한 번만 계산하고 결과(읽기 전용 Map)를 함께 돌려받습니다.
      */
     public Map<String, Object> getTomorrowWeather(int nx, int ny) {
+        return gridFlights.execute(List.of(nx, ny), () -> loadTomorrowWeather(nx, ny));
+    }
+
+    /**
+     * 격자(nx, ny)의 현재 발표분 단기예보를 캐시에서 꺼내(없으면 기상청 API 호출) 파싱합니다.
+     */
+    private Map<String, Object> loadTomorrowWeather(int nx, int ny) {
         try {
-            // API 호출을 위한 기준 시간 계산 (발표 시간 맞추기)
-            String[] baseInfo = getBaseTime();
-
-            // URI 생성 (파라미터 조합)
-            URI uri = UriComponentsBuilder.fromUriString(API_URL)
-                    .queryParam("serviceKey", SERVICE_KEY)
-                    .queryParam("pageNo", "1")
-                    .queryParam("numOfRows", "1000") // 넉넉하게 1000개 요청 (하루치 데이터 확보)
-                    .queryParam("dataType", "JSON")
-                    .queryParam("base_date", baseInfo[0])
-                    .queryParam("base_time", baseInfo[1])
-                    .queryParam("nx", nx)
-                    .queryParam("ny", ny)
-                    .encode().build().toUri();
-
-            // API 호출 및 응답 수신
-            RestTemplate restTemplate = new RestTemplate();
-            String response = restTemplate.getForObject(uri, String.class);
-
-            // JSON 파싱 및 데이터 정제 실행
-            return parseWeather(response);
+            // 발표 시각 계산은 ForecastCache.Endpoint.VILAGE 규칙을 그대로 사용
+            // (메인 대시보드와 base_time 이 같아야 같은 캐시 항목을 공유합니다)
+            KmaForecast forecast = forecastCache.getCurrentForecast(ForecastCache.Endpoint.VILAGE, nx, ny);
+            if (forecast == null) return null;
+
+            // 예보 데이터 정제 실행
+            return Collections.unmodifiableMap(parseWeather(forecast, nx, ny));
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -57,94 +77,78 @@ public class TomorrowWeatherService {
     }
 
     /**
-     * 2. BaseTime 계산
-     * - 기상청 API는 정해진 시간(02, 05, 08, 11, 14, 17, 20, 23시)에만 예보를 발표합니다.
-     * - 현재 시간과 가장 가까운 '이전 발표 시간'을 찾아냅니다.
+     * 내일/모레 시간별 예보 행렬 (발전량 예측 입력용)
+     * - 대시보드와 같은 단기예보 캐시 항목을 발표분마다 한 번만 파싱하므로 기상청 호출이 늘지 않습니다.
+     * - 같은 격자를 동시에 조회하면 한 번만 만듭니다.
+     * @return 예보 행렬, 예보를 가져오지 못하면 null
      */
-    private String[] getBaseTime() {
-        LocalDateTime now = LocalDateTime.now();
+    public HourlyWeather getHourlyWeather(int nx, int ny) {
+        LocalDateTime now = LocalDateTime.now(KST);
+        String[] base = ForecastCache.Endpoint.VILAGE.currentBase(now);
+        HourlyKey key = new HourlyKey(base[0] + base[1], now.toLocalDate().plusDays(1), nx, ny);
+        return hourlyFlights.execute(key, () -> loadHourlyWeather(key));
+    }
 
-        // 발표 후 20분 정도 뒤에 API가 갱신되므로, 20분 전이면 1시간 전 데이터를 요청
-        if (now.getMinute() < 20) now = now.minusHours(1);
+    private HourlyWeather loadHourlyWeather(HourlyKey key) {
+        try {
+            HourlyWeather cached = hourlyCache.get(key);
+            if (cached != null) return cached;
 
-        int hour = now.getHour();
-        int[] releaseHours = {2, 5, 8, 11, 14, 17, 20, 23};
-        int baseHour = 23;
-        String baseDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            String release = key.release();
+            KmaForecast forecast = forecastCache.getForecast(ForecastCache.Endpoint.VILAGE,
+                    release.substring(0, 8), release.substring(8), key.nx(), key.ny());
+            if (forecast == null) return null;
 
-        boolean isToday = false;
-        // 현재 시간보다 바로 전의 발표 시간을 찾음
-        for (int h : releaseHours) {
-            if (hour >= h) { baseHour = h; isToday = true; }
-        }
+            HourlyWeather weather = parseHourlyWeather(forecast, release, key.firstDate());
+            LocalDateTime released = LocalDateTime.parse(release, DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
+            hourlyCache.put(key, weather, ForecastCache.Endpoint.VILAGE.nextAvailable(released).atZone(KST).toInstant());
+            return weather;
 
-        // 자정~새벽 2시 사이라면, 어제 23시 데이터를 요청해야 함
-        if (!isToday && hour < 2) {
-            baseDate = now.minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-            baseHour = 23;
+        } catch (Exception e) {
+            log.warn("시간별 예보 행렬 생성 실패 ({}, {}): {}", key.nx(), key.ny(), e.getMessage());
+            return null;
         }
-        return new String[]{baseDate, String.format("%02d00", baseHour)};
     }
 
     /**
-     * 3. JSON 파싱 및 데이터 추출 (핵심 로직)
-     * - 응답받은 JSON에서 '내일' 데이터를 필터링합니다.
+     * 2. 예보 데이터 추출 (핵심 로직)
+     * - 파싱된 예보(KmaForecast)에서 '내일' 데이터를 필터링합니다.
      * - 최저/최고 기온을 찾고, 태양광 효율에 중요한 '낮 12시' 데이터를 추출합니다.
      */
-    private Map<String, Object> parseWeather(String jsonResponse) throws Exception {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonResponse);
-        JsonNode items = root.path("response").path("body").path("items").path("item");
-
+    private Map<String, Object> parseWeather(KmaForecast forecast, int nx, int ny) {
         // 타겟: 내일 날짜
         LocalDate tomorrowDate = LocalDate.now().plusDays(1);
-        String tomorrow = tomorrowDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        int tomorrow = Integer.parseInt(tomorrowDate.format(DateTimeFormatter.ofPattern("yyyyMMdd")));
 
         Map<String, Object> result = new HashMap<>();
         Double minTemp = null;
         Double maxTemp = null;
         boolean foundNoon = false; // 12시 데이터 존재 여부 플래그
 
-        for (JsonNode item : items) {
-            String fcstDate = item.path("fcstDate").asText();
-            String fcstTime = item.path("fcstTime").asText();
-            String category = item.path("category").asText();
-            String valStr = item.path("fcstValue").asText();
-
+        for (int slot = 0; slot < forecast.slotCount(); slot++) {
             // 내일 데이터만 처리
-            if (fcstDate.equals(tomorrow)) {
-                double val = 0.0;
-                try {
-                    // 강수량(PCP), 적설량(SNO)은 문자열(mm, cm) 파싱 필요
-                    if (!category.equals("PCP") && !category.equals("SNO")) {
-                        val = Double.parseDouble(valStr);
-                    }
-                } catch (NumberFormatException e) { val = 0.0; }
-
-                // [데이터 1] 최저(TMN) / 최고(TMX) 기온 추출 -> UI 표시용
-                if (category.equals("TMN")) minTemp = val;
-                if (category.equals("TMX")) maxTemp = val;
-
-                // [데이터 2] 낮 12시(1200) 데이터 추출 -> 태양광 효율 계산용
-                // 하루 중 태양광 발전량이 가장 많은 시간대이므로 대표값으로 사용
-                if (fcstTime.equals("1200")) {
-                    if (category.equals("SKY")) {
-                        // 구름 점수 변환: 1(맑음)->0, 3(구름많음)->5, 4(흐림)->10
-                        double cloud = 0;
-                        if (val == 1) cloud = 0;
-                        else if (val == 3) cloud = 5;
-                        else if (val >= 4) cloud = 10;
-                        result.put("cloud", cloud);
-                    }
-                    else if (category.equals("PCP")) result.put("rain", parsePrecipitation(valStr));
-                    else if (category.equals("SNO")) result.put("snow", parsePrecipitation(valStr));
-                    else if (category.equals("REH")) result.put("humidity", val);
-                    else if (category.equals("WSD")) result.put("wind", val);
-                        // 강수확률(POP) 저장 -> UI 표시용 (예: 60%)
-                    else if (category.equals("POP")) result.put("pop", val);
-
-                    foundNoon = true;
+            if (forecast.slotDate(slot) != tomorrow) continue;
+
+            // [데이터 1] 최저(TMN) / 최고(TMX) 기온 추출 -> UI 표시용
+            if (forecast.has(KmaCategory.TMN, slot)) minTemp = numberOrZero(forecast, KmaCategory.TMN, slot);
+            if (forecast.has(KmaCategory.TMX, slot)) maxTemp = numberOrZero(forecast, KmaCategory.TMX, slot);
+
+            // [데이터 2] 낮 12시(1200) 데이터 추출 -> 태양광 효율 계산용
+            // 하루 중 태양광 발전량이 가장 많은 시간대이므로 대표값으로 사용
+            if (forecast.slotTime(slot) == 1200) {
+                if (forecast.has(KmaCategory.SKY, slot)) {
+                    // 구름 점수 변환: 1(맑음)->0, 3(구름많음)->5, 4(흐림)->10
+                    result.put("cloud", cloudScore(numberOrZero(forecast, KmaCategory.SKY, slot)));
                 }
+                // 강수량(PCP), 적설량(SNO)은 범주 문자열(mm, cm) 파싱 필요
+                if (forecast.has(KmaCategory.PCP, slot)) result.put("rain", parsePrecipitation(forecast.text(KmaCategory.PCP, slot)));
+                if (forecast.has(KmaCategory.SNO, slot)) result.put("snow", parsePrecipitation(forecast.text(KmaCategory.SNO, slot)));
+                if (forecast.has(KmaCategory.REH, slot)) result.put("humidity", numberOrZero(forecast, KmaCategory.REH, slot));
+                if (forecast.has(KmaCategory.WSD, slot)) result.put("wind", numberOrZero(forecast, KmaCategory.WSD, slot));
+                // 강수확률(POP) 저장 -> UI 표시용 (예: 60%)
+                if (forecast.has(KmaCategory.POP, slot)) result.put("pop", numberOrZero(forecast, KmaCategory.POP, slot));
+
+                foundNoon = true;
             }
         }
 
@@ -161,49 +165,95 @@ public class TomorrowWeatherService {
         if (foundNoon) {
             double cloud = (double) result.getOrDefault("cloud", 0.0);
 
-            // 위도 37.5(서울/경기 평균), 내일 날짜(DayOfYear), 12시 기준
-            // 계절에 따른 태양 고도를 반영하여 이론적 일사량을 구하고, 구름양만큼 차감합니다.
-            double radiation = calculateAstronomicalRadiation(37.5, tomorrowDate.getDayOfYear(), 12, cloud);
+            // 격자 칸의 실제 위도, 내일 날짜(DayOfYear), 12시 기준
+            // 계절에 따른 태양 고도를 반영하여 이론적 일사량을 구하고, 구름양만큼 차감합니다. (SolarPredictionService 와 같은 엔진)
+            double sinElevation = IrradianceEngine.sinElevation(GridProjection.toLatLon(nx, ny)[0], tomorrowDate.getDayOfYear(), 12);
 
-            result.put("radiation", Math.round(radiation * 100) / 100.0);
-            result.put("sunshine", cloud <= 5 ? 1.0 : 0.0); // 구름 5 이하일 때 일조시간 1시간 인정
+            result.put("radiation", IrradianceEngine.radiation(sinElevation, cloud));
+            result.put("sunshine", IrradianceEngine.sunshine(sinElevation, cloud)); // 구름 5 이하일 때 일조시간 1시간 인정
         }
 
         return result;
     }
 
     /**
-     * ⚡ [신규] 천문학적 일사량 계산 메서드
-     * - 계절(날짜)과 시간, 위도에 따른 태양의 정확한 높이(고도각)를 계산합니다.
-     * - 파이썬 봇(predict.py)의 로직과 100% 동일하게 맞추어 데이터 일관성을 유지합니다.
+     * 3. 시간별 예보 행렬 추출
+     * - firstDate(요청 시점의 내일)부터 FORECAST_DAYS 일 동안 06~19시 슬롯의 TMP/SKY/WSD/REH/PCP/SNO 를 [일 × 시간] 배열에 담습니다.
+     * - 비어 있는 시간은 같은 날 가장 가까운 시간 값으로, 하루 종일 없는 항목은 기본값으로 채웁니다.
      */
-    private double calculateAstronomicalRadiation(double lat, int dayOfYear, int hour, double cloudScore) {
-        // 1. 태양 적위 (Declination): 계절에 따른 태양의 남중 고도 변화
-        double declination = 23.45 * Math.sin(Math.toRadians(360.0 * (284 + dayOfYear) / 365.0));
-
-        // 2. 시간각 (Hour Angle): 정오(12시)를 기준으로 한 태양의 각도 (1시간 = 15도)
-        double hourAngle = (hour - 12) * 15.0;
-
-        // 3. 고도각 (Elevation): 지평선으로부터 태양이 얼마나 높이 떠 있는지 계산
-        double latRad = Math.toRadians(lat);
-        double decRad = Math.toRadians(declination);
-        double haRad = Math.toRadians(hourAngle);
+    private HourlyWeather parseHourlyWeather(KmaForecast forecast, String release, LocalDate firstDate) {
+        int[] dates = new int[FORECAST_DAYS];
+        for (int day = 0; day < FORECAST_DAYS; day++) {
+            dates[day] = Integer.parseInt(firstDate.plusDays(day).format(DateTimeFormatter.ofPattern("yyyyMMdd")));
+        }
 
+        int size = FORECAST_DAYS * HourlyWeather.HOURS;
+        float[] temp = nanArray(size);
+        float[] cloud = nanArray(size);
+        float[] wind = nanArray(size);
+        float[] humidity = nanArray(size);
+        float[] rain = nanArray(size);
+        float[] snow = nanArray(size);
+        boolean[] days = new boolean[FORECAST_DAYS];
+
+        for (int slot = 0; slot < forecast.slotCount(); slot++) {
+            int day = Arrays.binarySearch(dates, forecast.slotDate(slot));
+            int hour = forecast.slotTime(slot) / 100;
+            if (day < 0 || hour < HourlyWeather.FIRST_HOUR || hour > HourlyWeather.LAST_HOUR) continue;
+
+            int i = HourlyWeather.index(day, hour);
+            days[day] = true;
+            if (forecast.has(KmaCategory.TMP, slot)) temp[i] = (float) numberOrZero(forecast, KmaCategory.TMP, slot);
+            if (forecast.has(KmaCategory.SKY, slot)) cloud[i] = (float) cloudScore(numberOrZero(forecast, KmaCategory.SKY, slot));
+            if (forecast.has(KmaCategory.WSD, slot)) wind[i] = (float) numberOrZero(forecast, KmaCategory.WSD, slot);
+            if (forecast.has(KmaCategory.REH, slot)) humidity[i] = (float) numberOrZero(forecast, KmaCategory.REH, slot);
+            if (forecast.has(KmaCategory.PCP, slot)) rain[i] = (float) parsePrecipitation(forecast.text(KmaCategory.PCP, slot));
+            if (forecast.has(KmaCategory.SNO, slot)) snow[i] = (float) parsePrecipitation(forecast.text(KmaCategory.SNO, slot));
+        }
 
+        for (int day = 0; day < FORECAST_DAYS; day++) {
+            fillGaps(temp, day, DEFAULT_TEMP);
+            fillGaps(cloud, day, DEFAULT_CLOUD);
+            fillGaps(wind, day, DEFAULT_WIND);
+            fillGaps(humidity, day, DEFAULT_HUMIDITY);
+            fillGaps(rain, day, 0f);
+            fillGaps(snow, day, 0f);
+        }
+        return new HourlyWeather(release, firstDate, days, temp, cloud, wind, humidity, rain, snow);
+    }
 
-        double sinElevation = (Math.sin(latRad) * Math.sin(decRad)) +
-                (Math.cos(latRad) * Math.cos(decRad) * Math.cos(haRad));
-        double elevation = Math.toDegrees(Math.asin(Math.max(0, sinElevation)));
+    // 하늘상태(SKY) → 구름 점수: 1(맑음)->0, 3(구름많음)->5, 4(흐림)->10
+    private double cloudScore(double sky) {
+        if (sky >= 4) return 10;
+        if (sky == 3) return 5;
+        return 0;
+    }
 
-        // 해가 져서 고도각이 0 이하이면 발전량 0
-        if (elevation <= 0) return 0.0;
+    private float[] nanArray(int size) {
+        float[] values = new float[size];
+        Arrays.fill(values, Float.NaN);
+        return values;
+    }
 
-        // 4. 이론적 최대 일사량 및 구름에 따른 감쇄 적용
-        // (구름 점수 0~10점에 따라 효율 100% ~ 30%로 감소)
-        double maxRadiation = 3.6 * Math.sin(Math.toRadians(elevation));
-        double cloudFactor = 1.0 - (cloudScore / 10.0 * 0.7);
+    // 하루 안에서 비어 있는(NaN) 시간을 가장 가까운 시간 값으로 채움 (하루 종일 비었으면 기본값)
+    private void fillGaps(float[] values, int day, float defaultValue) {
+        int from = HourlyWeather.index(day, HourlyWeather.FIRST_HOUR);
+        int to = from + HourlyWeather.HOURS;
+        for (int i = from; i < to; i++) {
+            if (!Float.isNaN(values[i])) continue;
+            float nearest = defaultValue;
+            for (int d = 1; d < HourlyWeather.HOURS; d++) {
+                if (i - d >= from && !Float.isNaN(values[i - d])) { nearest = values[i - d]; break; }
+                if (i + d < to && !Float.isNaN(values[i + d])) { nearest = values[i + d]; break; }
+            }
+            values[i] = nearest;
+        }
+    }
 
-        return maxRadiation * cloudFactor;
+    // 예보 숫자값 (없거나 숫자가 아니면 0)
+    private double numberOrZero(KmaForecast forecast, KmaCategory category, int slot) {
+        double value = forecast.value(category, slot);
+        return Double.isNaN(value) ? 0.0 : value;
     }
 
     /**
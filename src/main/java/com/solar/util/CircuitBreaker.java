@@ -0,0 +1,152 @@
+package com.solar.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 호출 대상 하나의 회로 차단기 (circuit breaker)
+ * - CLOSED: 최근 windowSize 번 호출 결과를 원형 배열에 기록하고, minCalls 번 이상 중 실패 비율이 failureRate 이상이면 OPEN.
+ * - OPEN: openMillis 동안 호출을 바로 거절합니다. (호출자는 기다리지 않고 곧바로 Fallback 사용)
+ * - HALF_OPEN: OPEN 시간이 지나면 시험 호출 1건만 통과시켜, 성공하면 CLOSED(기록 초기화), 실패하면 다시 OPEN.
+ * - 상태 변경은 모두 synchronized 로 처리합니다. (호출 1건당 짧은 임계구역 한 번)
+ * - 호출마다 허가(Permit)를 받고, 끝나면 그 허가로 onSuccess / onFailure / release 중 하나를 꼭 한 번 호출합니다.
+ *   허가에는 발급 당시의 상태 세대(epoch)가 들어 있어, 상태가 바뀐 뒤 도착한 늦은 결과(차단 전에 시작한 호출 등)는 무시합니다.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * 호출 1건의 허가
+     * @param epoch 발급 당시 상태 세대
+     * @param probe HALF_OPEN 시험 호출인지
+     */
+    public record Permit(long epoch, boolean probe) {}
+
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openMillis;
+
+    private final boolean[] window; // true: 실패
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long epoch;      // 상태가 바뀔 때마다 증가
+    private long openedAt;
+    private boolean probing; // HALF_OPEN 시험 호출이 진행 중인지
+
+    // 모니터링용 누적 값
+    private long rejectedCount;
+    private long openedCount;
+    private long stateSince = System.currentTimeMillis();
+
+    public CircuitBreaker(int windowSize, int minCalls, double failureRate, long openMillis) {
+        this.windowSize = windowSize;
+        this.minCalls = Math.min(minCalls, windowSize);
+        this.failureRate = failureRate;
+        this.openMillis = openMillis;
+        this.window = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허가 (null 이면 호출하지 말고 바로 Fallback)
+     * - 허가를 받았으면 호출이 어떻게 끝나든(finally) onSuccess / onFailure / release 중 하나를 반드시 호출해야 합니다.
+     */
+    public synchronized Permit tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return new Permit(epoch, false);
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openMillis) break;
+                transition(State.HALF_OPEN);
+                probing = true;
+                return new Permit(epoch, true);
+            case HALF_OPEN:
+                if (probing) break; // 시험 호출 진행 중
+                probing = true;
+                return new Permit(epoch, true);
+        }
+        rejectedCount++;
+        return null;
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (permit.epoch() != epoch) return; // 상태가 바뀐 뒤 도착한 늦은 결과
+        if (permit.probe()) {
+            probing = false;
+            reset();
+            transition(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (permit.epoch() != epoch) return;
+        if (permit.probe()) {
+            probing = false;
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minCalls && failures >= failureRate * recorded) open();
+    }
+
+    /**
+     * 결과를 기록하지 않고 허가만 반납 (호출 쪽 취소/인터럽트, 예상 못 한 Error 등)
+     * - 시험 호출이었다면 다음 호출이 다시 시험할 수 있도록 자리만 비웁니다.
+     */
+    public synchronized void release(Permit permit) {
+        if (permit.epoch() == epoch && permit.probe()) probing = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /** 모니터링용 상태 스냅샷 */
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("state", state.name());
+        map.put("stateSinceMs", System.currentTimeMillis() - stateSince);
+        map.put("windowCalls", recorded);
+        map.put("windowFailures", failures);
+        map.put("failureRate", recorded == 0 ? 0.0 : Math.round(failures * 1000.0 / recorded) / 1000.0);
+        map.put("rejected", rejectedCount);
+        map.put("opened", openedCount);
+        return map;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == windowSize) {
+            if (window[next]) failures--; // 가장 오래된 기록 밀어내기
+        } else {
+            recorded++;
+        }
+        window[next] = failed;
+        if (failed) failures++;
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        openedAt = System.currentTimeMillis();
+        openedCount++;
+        transition(State.OPEN);
+    }
+
+    private void reset() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+    }
+
+    private void transition(State to) {
+        if (state == to) return;
+        stateSince = System.currentTimeMillis();
+        state = to;
+        epoch++;
+    }
+}
@@ -0,0 +1,84 @@
+package com.solar.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 요청 하나 동안만 살아 있는 가상 스레드 작업 범위 (전체 시간 예산 1개)
+ * - fork 한 작업은 모두 이 범위 안에서 가상 스레드로 실행됩니다.
+ * - join 은 데드라인까지만 기다리고, 그때까지 끝나지 않은 작업은 취소(인터럽트)합니다.
+ * - close 시 남은 작업을 모두 취소하므로, 요청이 끝난 뒤까지 살아남는 작업이 없습니다.
+ *
+ * 사용 예)
+ *   try (DeadlineScope scope = new DeadlineScope(Duration.ofSeconds(3))) {
+ *       scope.fork("uv", () -> ...);
+ *       Set<String> done = scope.join();
+ *   }
+ */
+@Slf4j
+public class DeadlineScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Future<?>> tasks = new LinkedHashMap<>();
+    private final long deadlineNanos;
+
+    public DeadlineScope(Duration budget) {
+        this.deadlineNanos = System.nanoTime() + budget.toNanos();
+    }
+
+    public void fork(String name, Runnable task) {
+        tasks.put(name, executor.submit(task));
+    }
+
+    /**
+     * 데드라인까지 fork 된 작업을 기다립니다.
+     * @return 제시간에 끝난 작업 이름 (예외로 끝난 작업도 포함, 취소된 작업은 제외)
+     */
+    public Set<String> join() {
+        Set<String> completed = new HashSet<>();
+        for (Map.Entry<String, Future<?>> entry : tasks.entrySet()) {
+            Future<?> future = entry.getValue();
+            try {
+                future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                completed.add(entry.getKey());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("⏱️ 시간 예산 초과로 작업 취소: {}", entry.getKey());
+            } catch (ExecutionException e) {
+                completed.add(entry.getKey());
+                log.warn("작업 실패: {} ({})", entry.getKey(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            } catch (CancellationException e) {
+                // 이미 취소된 작업
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        tasks.values().forEach(f -> f.cancel(true));
+        tasks.clear();
+        return completed;
+    }
+
+    /** 남은 시간 예산 */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    @Override
+    public void close() {
+        tasks.values().forEach(f -> f.cancel(true));
+        executor.shutdownNow(); // 취소된 작업을 기다리지 않습니다.
+    }
+}
@@ -0,0 +1,59 @@
+package com.solar.util;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 항목마다 만료 시각을 따로 지정하는 간단한 인메모리 캐시입니다.
+ * - 고정 TTL이 아니라 "다음 발표 시각" 처럼 데이터마다 다른 만료 시점을 넣을 때 사용합니다.
+ * - 만료된 항목은 조회 시점에 제거하고, 주기적으로 한 번씩 전체를 정리합니다.
+ */
+public class ExpiringCache<K, V> {
+
+    private static final long PURGE_INTERVAL_MS = 60_000;
+
+    private final ConcurrentMap<K, Entry<V>> store = new ConcurrentHashMap<>();
+    private volatile long lastPurge = System.currentTimeMillis();
+
+    private record Entry<V>(V value, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    /**
+     * 만료되지 않은 값을 반환합니다. (없거나 만료되었으면 null)
+     */
+    public V get(K key) {
+        Entry<V> entry = store.get(key);
+        if (entry == null) return null;
+        if (entry.isExpired(Instant.now())) {
+            store.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 값을 저장합니다. 이미 지난 만료 시각이면 저장하지 않습니다.
+     */
+    public void put(K key, V value, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (!now.isBefore(expiresAt)) return;
+        store.put(key, new Entry<>(value, expiresAt));
+        purgeIfDue(now);
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    // 만료 항목 정리 (1분에 한 번만 수행)
+    private void purgeIfDue(Instant now) {
+        long current = now.toEpochMilli();
+        if (current - lastPurge < PURGE_INTERVAL_MS) return;
+        lastPurge = current;
+        store.entrySet().removeIf(e -> e.getValue().isExpired(now));
+    }
+}
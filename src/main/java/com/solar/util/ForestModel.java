@@ -0,0 +1,131 @@
+package com.solar.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 랜덤 포레스트(회귀) 추론기
+ * - export_model.py 가 만든 solar_model.bin 을 메모리 매핑해 그대로 읽습니다. (힙으로 복사하지 않음)
+ * - 모든 나무의 노드가 feature/threshold/left/right/value 평면 배열에 이어져 있고, 예측값은 나무별 잎 값의 평균입니다.
+ * - sklearn 과 같은 결과를 내기 위해 입력은 float, 분기 기준은 double 로 비교합니다. (X[f] <= threshold → 왼쪽)
+ * - 읽기 전용이므로 여러 스레드가 동시에 predict 해도 안전합니다.
+ */
+public final class ForestModel {
+
+    private static final int MAGIC = 0x31465253; // "SRF1" (little-endian)
+    private static final int VERSION = 1;
+    private static final int LEAF = -1;
+
+    private final int featureCount;
+    private final int[] roots;
+    private final IntBuffer feature;
+    private final DoubleBuffer threshold;
+    private final IntBuffer left;
+    private final IntBuffer right;
+    private final DoubleBuffer value;
+
+    private ForestModel(ByteBuffer buf) throws IOException {
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.getInt(0) != MAGIC) throw new IOException("모델 파일 형식이 아닙니다. (magic 불일치)");
+        if (buf.getInt(4) != VERSION) throw new IOException("지원하지 않는 모델 파일 버전: " + buf.getInt(4));
+
+        this.featureCount = buf.getInt(8);
+        int treeCount = buf.getInt(12);
+        int nodeCount = buf.getInt(16);
+
+        int offset = 20;
+        offset = align(offset);
+        this.roots = new int[treeCount];
+        slice(buf, offset, treeCount * 4).asIntBuffer().get(roots);
+        offset = align(offset + treeCount * 4);
+
+        this.feature = slice(buf, offset, nodeCount * 4).asIntBuffer();
+        offset = align(offset + nodeCount * 4);
+        this.threshold = slice(buf, offset, nodeCount * 8).asDoubleBuffer();
+        offset = align(offset + nodeCount * 8);
+        this.left = slice(buf, offset, nodeCount * 4).asIntBuffer();
+        offset = align(offset + nodeCount * 4);
+        this.right = slice(buf, offset, nodeCount * 4).asIntBuffer();
+        offset = align(offset + nodeCount * 4);
+        this.value = slice(buf, offset, nodeCount * 8).asDoubleBuffer();
+    }
+
+    /**
+     * 모델 파일을 메모리 매핑으로 엽니다.
+     */
+    public static ForestModel load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ForestModel(mapped);
+        }
+    }
+
+    /**
+     * 이미 메모리에 올라온 모델 바이트로 만듭니다. (클래스패스 리소스 등)
+     */
+    public static ForestModel of(ByteBuffer bytes) throws IOException {
+        return new ForestModel(bytes.duplicate());
+    }
+
+    public int getFeatureCount() {
+        return featureCount;
+    }
+
+    public int getTreeCount() {
+        return roots.length;
+    }
+
+    /**
+     * 특징 벡터 1개의 예측값 (나무별 잎 값의 평균)
+     */
+    public double predict(float[] x) {
+        if (x.length != featureCount) throw new IllegalArgumentException("특징 개수 불일치: " + x.length + " != " + featureCount);
+        double sum = 0.0;
+        for (int root : roots) {
+            sum += value.get(leafOf(root, x));
+        }
+        return sum / roots.length;
+    }
+
+    /**
+     * 여러 행을 한 번에 예측합니다.
+     * - 나무 단위로 바깥 반복을 돌려, 한 나무의 노드를 캐시에 올린 채 모든 행을 통과시킵니다.
+     */
+    public double[] predict(float[][] rows) {
+        double[] sums = new double[rows.length];
+        for (float[] row : rows) {
+            if (row.length != featureCount) throw new IllegalArgumentException("특징 개수 불일치: " + row.length + " != " + featureCount);
+        }
+        for (int root : roots) {
+            for (int r = 0; r < rows.length; r++) {
+                sums[r] += value.get(leafOf(root, rows[r]));
+            }
+        }
+        for (int r = 0; r < sums.length; r++) sums[r] /= roots.length;
+        return sums;
+    }
+
+    private int leafOf(int node, float[] x) {
+        int next;
+        while ((next = left.get(node)) != LEAF) {
+            // sklearn 과 동일: float32 입력을 double threshold 와 비교
+            node = (double) x[feature.get(node)] <= threshold.get(node) ? next : right.get(node);
+        }
+        return node;
+    }
+
+    private static ByteBuffer slice(ByteBuffer buf, int offset, int length) {
+        return buf.slice(offset, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int align(int offset) {
+        return (offset + 7) & ~7;
+    }
+}
@@ -0,0 +1,212 @@
+package com.solar.util;
+
+/**
+ * 기상청 동네예보 격자(Lambert Conformal Conic, 5km) ↔ 위경도 변환
+ * - 격자는 149 × 253 칸뿐이므로 모든 칸의 위경도를 클래스 로딩 시 한 번 계산해 표로 들고 있습니다. (격자 → 위경도 = 배열 조회)
+ * - 위경도 → 격자는 0.1도 간격 보조 표에 연속 격자 좌표(x, y)를 미리 계산해 두고 쌍선형 보간으로 구합니다.
+ *   보간값이 반올림 경계(.5)에 너무 가깝거나 표 범위를 벗어나면 정확한 투영식으로 다시 계산합니다.
+ * - 투영 상수와 반올림 규칙은 predict.py map_to_grid 와 같습니다.
+ */
+public final class GridProjection {
+
+    public static final int NX = 149; // 격자 X 칸 수 (1 ~ 149)
+    public static final int NY = 253; // 격자 Y 칸 수 (1 ~ 253)
+
+    private static final double RE = 6371.00877; // 지구 반경(km)
+    private static final double GRID = 5.0;      // 격자 간격(km)
+    private static final double SLAT1 = 30.0;    // 투영 위도1(degree)
+    private static final double SLAT2 = 60.0;    // 투영 위도2(degree)
+    private static final double OLON = 126.0;    // 기준점 경도(degree)
+    private static final double OLAT = 38.0;     // 기준점 위도(degree)
+    private static final double XO = 43;         // 기준점 X좌표(GRID)
+    private static final double YO = 136;        // 기준점 Y좌표(GRID)
+
+    private static final double DEGRAD = Math.PI / 180.0;
+    private static final double RADDEG = 180.0 / Math.PI;
+
+    // 투영 파라미터 (한 번만 계산)
+    private static final double RE_GRID = RE / GRID;
+    private static final double SN;
+    private static final double SF;
+    private static final double RO;
+
+    // 격자 → 위경도 표 ([(ny - 1) * NX + (nx - 1)])
+    private static final double[] CELL_LAT = new double[NX * NY];
+    private static final double[] CELL_LON = new double[NX * NY];
+
+    // 위경도 → 연속 격자 좌표 보조 표 (0.1도 간격)
+    private static final double STEP = 0.1;
+    private static final double SNAP_MARGIN = 0.01; // 반올림 경계까지 이 값보다 가까우면 정확한 식으로 재계산
+    private static final double MIN_LAT;
+    private static final double MIN_LON;
+    private static final int ROWS;
+    private static final int COLS;
+    private static final double[] INDEX_X;
+    private static final double[] INDEX_Y;
+
+    static {
+        double slat1 = SLAT1 * DEGRAD;
+        double slat2 = SLAT2 * DEGRAD;
+        double olat = OLAT * DEGRAD;
+
+        double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        SN = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
+        SF = Math.pow(Math.tan(Math.PI * 0.25 + slat1 * 0.5), SN) * Math.cos(slat1) / SN;
+        RO = RE_GRID * SF / Math.pow(Math.tan(Math.PI * 0.25 + olat * 0.5), SN);
+
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLon = Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+        double[] latLon = new double[2];
+        for (int ny = 1; ny <= NY; ny++) {
+            for (int nx = 1; nx <= NX; nx++) {
+                exactToLatLon(nx, ny, latLon);
+                int i = (ny - 1) * NX + (nx - 1);
+                CELL_LAT[i] = latLon[0];
+                CELL_LON[i] = latLon[1];
+                minLat = Math.min(minLat, latLon[0]);
+                maxLat = Math.max(maxLat, latLon[0]);
+                minLon = Math.min(minLon, latLon[1]);
+                maxLon = Math.max(maxLon, latLon[1]);
+            }
+        }
+
+        // 격자 전체를 덮는 위경도 범위 (반 칸 여유)
+        MIN_LAT = Math.floor(minLat / STEP) * STEP - STEP;
+        MIN_LON = Math.floor(minLon / STEP) * STEP - STEP;
+        ROWS = (int) Math.ceil((maxLat - MIN_LAT) / STEP) + 2;
+        COLS = (int) Math.ceil((maxLon - MIN_LON) / STEP) + 2;
+        INDEX_X = new double[ROWS * COLS];
+        INDEX_Y = new double[ROWS * COLS];
+
+        double[] xy = new double[2];
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLS; c++) {
+                exactToGrid(MIN_LAT + r * STEP, MIN_LON + c * STEP, xy);
+                INDEX_X[r * COLS + c] = xy[0];
+                INDEX_Y[r * COLS + c] = xy[1];
+            }
+        }
+    }
+
+    private GridProjection() {
+    }
+
+    /**
+     * 격자 좌표 → 위경도 {lat, lon}
+     * - 격자 범위 안이면 미리 계산한 표에서, 밖이면 투영식으로 계산합니다.
+     */
+    public static double[] toLatLon(int nx, int ny) {
+        if (nx >= 1 && nx <= NX && ny >= 1 && ny <= NY) {
+            int i = (ny - 1) * NX + (nx - 1);
+            return new double[]{CELL_LAT[i], CELL_LON[i]};
+        }
+        double[] latLon = new double[2];
+        exactToLatLon(nx, ny, latLon);
+        return latLon;
+    }
+
+    /**
+     * 위경도 → 격자 좌표 {nx, ny} (predict.py map_to_grid 와 같은 반올림)
+     */
+    public static int[] toGrid(double lat, double lon) {
+        double fr = (lat - MIN_LAT) / STEP;
+        double fc = (lon - MIN_LON) / STEP;
+        int r = (int) Math.floor(fr);
+        int c = (int) Math.floor(fc);
+
+        if (r >= 0 && r < ROWS - 1 && c >= 0 && c < COLS - 1) {
+            double tr = fr - r;
+            double tc = fc - c;
+            double x = bilinear(INDEX_X, r, c, tr, tc);
+            double y = bilinear(INDEX_Y, r, c, tr, tc);
+            if (!nearHalf(x) && !nearHalf(y)) {
+                return new int[]{(int) (x + 0.5), (int) (y + 0.5)};
+            }
+        }
+
+        // 보조 표 범위 밖이거나 반올림 경계 근처 → 정확한 투영식
+        double[] xy = new double[2];
+        exactToGrid(lat, lon, xy);
+        return new int[]{(int) (xy[0] + 0.5), (int) (xy[1] + 0.5)};
+    }
+
+    /**
+     * 격자 범위(1 ~ 149, 1 ~ 253) 안인지 여부
+     */
+    public static boolean inGrid(int nx, int ny) {
+        return nx >= 1 && nx <= NX && ny >= 1 && ny <= NY;
+    }
+
+    /**
+     * 두 위경도 지점 사이의 거리 (km, 하버사인 공식)
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        final int R = 6371;
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lonDistance = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return R * c;
+    }
+
+    /**
+     * 두 격자 칸 중심 사이의 거리 (km)
+     */
+    public static double distanceKm(int nx1, int ny1, int nx2, int ny2) {
+        double[] a = toLatLon(nx1, ny1);
+        double[] b = toLatLon(nx2, ny2);
+        return distanceKm(a[0], a[1], b[0], b[1]);
+    }
+
+    // ================= 정확한 투영식 =================
+
+    // 격자 → 위경도 (기상청 역변환)
+    private static void exactToLatLon(double nx, double ny, double[] out) {
+        double xn = nx - XO;
+        double yn = RO - ny + YO;
+        double ra = Math.sqrt(xn * xn + yn * yn);
+        if (SN < 0.0) ra = -ra;
+        double alat = Math.pow((RE_GRID * SF / ra), (1.0 / SN));
+        alat = 2.0 * Math.atan(alat) - Math.PI * 0.5;
+
+        double theta;
+        if (Math.abs(xn) <= 0.0) theta = 0.0;
+        else {
+            if (Math.abs(yn) <= 0.0) {
+                theta = Math.PI * 0.5;
+                if (xn < 0.0) theta = -theta;
+            } else theta = Math.atan2(xn, yn);
+        }
+        double alon = theta / SN + OLON * DEGRAD;
+        out[0] = alat * RADDEG;
+        out[1] = alon * RADDEG;
+    }
+
+    // 위경도 → 연속 격자 좌표 (반올림 전)
+    private static void exactToGrid(double lat, double lon, double[] out) {
+        double ra = Math.tan(Math.PI * 0.25 + lat * DEGRAD * 0.5);
+        ra = RE_GRID * SF / Math.pow(ra, SN);
+
+        double theta = lon * DEGRAD - OLON * DEGRAD;
+        if (theta > Math.PI) theta -= 2.0 * Math.PI;
+        if (theta < -Math.PI) theta += 2.0 * Math.PI;
+        theta *= SN;
+
+        out[0] = ra * Math.sin(theta) + XO;
+        out[1] = RO - ra * Math.cos(theta) + YO;
+    }
+
+    private static double bilinear(double[] table, int r, int c, double tr, double tc) {
+        int i = r * COLS + c;
+        double top = table[i] + (table[i + 1] - table[i]) * tc;
+        double bottom = table[i + COLS] + (table[i + COLS + 1] - table[i + COLS]) * tc;
+        return top + (bottom - top) * tr;
+    }
+
+    private static boolean nearHalf(double v) {
+        double frac = v - Math.floor(v);
+        return Math.abs(frac - 0.5) < SNAP_MARGIN;
+    }
+}
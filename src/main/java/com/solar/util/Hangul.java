@@ -0,0 +1,51 @@
+package com.solar.util;
+
+/**
+ * 한글 초성 검색 도우미
+ * - "종로구" → "ㅈㄹㄱ" 처럼 완성형 음절을 초성(호환 자모)으로 바꿉니다. 한글이 아닌 글자는 그대로 둡니다.
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNG_JONG = 21 * 28; // 초성 하나당 (중성 21 × 종성 28) 글자
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private Hangul() {
+    }
+
+    /**
+     * 문자열의 초성만 뽑은 문자열
+     */
+    public static String choseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) sb.append(CHOSEONG[(c - SYLLABLE_BEGIN) / JUNG_JONG]);
+            else sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성(자음)으로만 이루어진 문자열인지 여부 (예: "ㅈㄹ")
+     */
+    public static boolean isChoseongOnly(String text) {
+        if (text.isEmpty()) return false;
+        for (int i = 0; i < text.length(); i++) {
+            if (!isChoseong(text.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isChoseong(char c) {
+        for (char jamo : CHOSEONG) {
+            if (jamo == c) return true;
+        }
+        return false;
+    }
+}
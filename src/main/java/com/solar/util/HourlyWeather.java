@@ -0,0 +1,87 @@
+package com.solar.util;
+
+import java.time.LocalDate;
+
+/**
+ * 격자 하나의 시간별 예보 행렬 (발전량 예측 입력용)
+ * - 단기예보 한 발표분에서 내일(D+1)부터 며칠 치의 FIRST_HOUR ~ LAST_HOUR 시간대 값을 뽑아 원시 배열로 담습니다.
+ * - 값은 [일 × 시간] 순서의 1차원 배열이며, 예보에 없는 시간은 같은 날 가장 가까운 시간 값으로 채웁니다.
+ * - 하루 치 슬롯이 하나도 없으면 그 날은 hasDay(day) == false 입니다.
+ * - 한 번 만들어지면 변경되지 않으므로 여러 스레드가 함께 읽어도 됩니다.
+ */
+public final class HourlyWeather {
+
+    public static final int FIRST_HOUR = 6;
+    public static final int LAST_HOUR = 19;
+    public static final int HOURS = LAST_HOUR - FIRST_HOUR + 1;
+
+    private final String release;       // 단기예보 발표 시각 (yyyyMMddHHmm)
+    private final LocalDate firstDate;  // day 0 의 날짜 (내일)
+    private final boolean[] days;
+    private final float[] temp;         // 기온 (℃)
+    private final float[] cloud;        // 구름 점수 (맑음 0, 구름많음 5, 흐림 10)
+    private final float[] wind;         // 풍속 (m/s)
+    private final float[] humidity;     // 습도 (%)
+    private final float[] rain;         // 1시간 강수량 (mm)
+    private final float[] snow;         // 1시간 신적설 (cm)
+
+    public HourlyWeather(String release, LocalDate firstDate, boolean[] days, float[] temp, float[] cloud,
+                         float[] wind, float[] humidity, float[] rain, float[] snow) {
+        this.release = release;
+        this.firstDate = firstDate;
+        this.days = days;
+        this.temp = temp;
+        this.cloud = cloud;
+        this.wind = wind;
+        this.humidity = humidity;
+        this.rain = rain;
+        this.snow = snow;
+    }
+
+    public String getRelease() {
+        return release;
+    }
+
+    public int dayCount() {
+        return days.length;
+    }
+
+    /** day (0: 내일, 1: 모레) 의 날짜 */
+    public LocalDate date(int day) {
+        return firstDate.plusDays(day);
+    }
+
+    /** day 의 예보가 하나라도 있는지 */
+    public boolean hasDay(int day) {
+        return day >= 0 && day < days.length && days[day];
+    }
+
+    public float temp(int day, int hour) {
+        return temp[index(day, hour)];
+    }
+
+    public float cloud(int day, int hour) {
+        return cloud[index(day, hour)];
+    }
+
+    public float wind(int day, int hour) {
+        return wind[index(day, hour)];
+    }
+
+    public float humidity(int day, int hour) {
+        return humidity[index(day, hour)];
+    }
+
+    public float rain(int day, int hour) {
+        return rain[index(day, hour)];
+    }
+
+    public float snow(int day, int hour) {
+        return snow[index(day, hour)];
+    }
+
+    /** [일 × 시간] 배열 위치 */
+    public static int index(int day, int hour) {
+        return day * HOURS + (hour - FIRST_HOUR);
+    }
+}
@@ -0,0 +1,95 @@
+package com.solar.util;
+
+import java.util.Arrays;
+
+/**
+ * 시간대별 이론 일사량 / 일조 계산 (이 식의 유일한 구현, 텔레그램 봇 predict.py 는 /api/irradiance 로 받아 씀)
+ * - 모델이 이 식으로 만든 특징으로 학습되었으므로, 정확한 태양 위치(SolarPosition)가 아니라 학습 때와 같은
+ *   단순 적위(23.45·sin) + 시계 기준 시간각((h - 12)·15) 식을 그대로 씁니다. 경도는 식에 들어가지 않습니다.
+ * - 날짜(1~366일)와 시각(0~23시)에만 의존하는 적위/시간각 항은 클래스 로딩 시 표로 만들어 두고,
+ *   위도 항(sin/cos)은 지점마다 한 번만 계산하므로 한 지점의 하루치는 곱셈 몇 번으로 끝납니다.
+ * - 결과는 호출자가 넘긴 원시 배열에 채웁니다. (여러 지점·여러 날을 돌 때 배열 재사용)
+ */
+public final class IrradianceEngine {
+
+    public static final int HOURS = 24;
+
+    private static final double MAX_RADIATION = 3.6;  // 맑은 날 태양이 천정에 있을 때의 시간당 일사량 (MJ/m²)
+    private static final double CLOUD_LOSS = 0.7;     // 구름 10점일 때 감쇄율
+    private static final double SUNSHINE_CLOUD_LIMIT = 5.0; // 구름 5 이하일 때 일조 1시간 인정
+
+    // [dayOfYear] (1 ~ 366)
+    private static final double[] SIN_DEC = new double[367];
+    private static final double[] COS_DEC = new double[367];
+    // [hour] (0 ~ 23)
+    private static final double[] COS_HOUR_ANGLE = new double[HOURS];
+
+    static {
+        for (int day = 1; day <= 366; day++) {
+            double declination = 23.45 * Math.sin(Math.toRadians(360.0 * (284 + day) / 365.0));
+            SIN_DEC[day] = Math.sin(Math.toRadians(declination));
+            COS_DEC[day] = Math.cos(Math.toRadians(declination));
+        }
+        for (int hour = 0; hour < HOURS; hour++) {
+            COS_HOUR_ANGLE[hour] = Math.cos(Math.toRadians((hour - 12) * 15.0));
+        }
+    }
+
+    private IrradianceEngine() {
+    }
+
+    /**
+     * 태양 고도각의 sin 값 (0 이하이면 해가 진 시간)
+     */
+    public static double sinElevation(double lat, int dayOfYear, int hour) {
+        double latRad = Math.toRadians(lat);
+        return Math.sin(latRad) * SIN_DEC[dayOfYear] + Math.cos(latRad) * COS_DEC[dayOfYear] * COS_HOUR_ANGLE[hour];
+    }
+
+    /**
+     * 한 시간의 이론 일사량 (소수 둘째 자리 반올림, 해가 진 시간은 0)
+     */
+    public static double radiation(double sinElevation, double cloud) {
+        if (sinElevation <= 0) return 0.0;
+        double value = MAX_RADIATION * sinElevation * (1.0 - cloud / 10.0 * CLOUD_LOSS);
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * 한 시간의 일조 (해가 떠 있고 구름 5 이하이면 1)
+     */
+    public static double sunshine(double sinElevation, double cloud) {
+        return sinElevation > 0 && cloud <= SUNSHINE_CLOUD_LIMIT ? 1.0 : 0.0;
+    }
+
+    /**
+     * firstHour 부터 연속된 시간대의 일사량/일조를 한 번에 채웁니다.
+     * @param cloud     시간대별 구름 점수 (0~10, 길이 = 채울 시간 수)
+     * @param radiation 결과: 시간대별 일사량 (cloud 이상 길이)
+     * @param sunshine  결과: 시간대별 일조 (cloud 이상 길이, 필요 없으면 null)
+     */
+    public static void hourly(double lat, int dayOfYear, int firstHour, double[] cloud,
+                              double[] radiation, double[] sunshine) {
+        double latRad = Math.toRadians(lat);
+        double sinLat = Math.sin(latRad);
+        double cosLat = Math.cos(latRad);
+        double sinTerm = sinLat * SIN_DEC[dayOfYear];
+        double cosTerm = cosLat * COS_DEC[dayOfYear];
+
+        for (int i = 0; i < cloud.length; i++) {
+            double sinElevation = sinTerm + cosTerm * COS_HOUR_ANGLE[firstHour + i];
+            radiation[i] = radiation(sinElevation, cloud[i]);
+            if (sunshine != null) sunshine[i] = sunshine(sinElevation, cloud[i]);
+        }
+    }
+
+    /**
+     * 하루 종일 구름 점수가 같을 때 (firstHour ~ lastHour)
+     */
+    public static void hourly(double lat, int dayOfYear, int firstHour, int lastHour, double cloud,
+                              double[] radiation, double[] sunshine) {
+        double[] clouds = new double[lastHour - firstHour + 1];
+        Arrays.fill(clouds, cloud);
+        hourly(lat, dayOfYear, firstHour, clouds, radiation, sunshine);
+    }
+}
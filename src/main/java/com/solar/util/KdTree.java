@@ -0,0 +1,126 @@
+package com.solar.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 위경도 지점용 2차원 k-d 트리 (가장 가까운 k개 찾기)
+ * - 위도 1도와 경도 1도의 실제 거리가 다르므로, 경도에 cos(기준 위도)를 곱한 평면 좌표로 나눕니다.
+ *   한반도 범위(위도 33~39도)에서는 이 근사 거리 순서가 실제(하버사인) 거리 순서와 거의 같습니다.
+ * - 만든 뒤에는 읽기만 하므로 여러 스레드가 동시에 조회해도 안전합니다.
+ * - 노드는 배열 하나에 정렬해 담고(가운데가 루트), 자식 포인터 없이 구간 [lo, hi) 로 내려갑니다.
+ */
+public final class KdTree<T> {
+
+    private final double lonScale;
+    private final double[] xs;   // 경도 × lonScale
+    private final double[] ys;   // 위도
+    private final List<T> items;
+
+    /**
+     * @param lats  지점별 위도
+     * @param lons  지점별 경도
+     * @param items 지점별 값 (lats/lons 와 같은 순서)
+     */
+    public KdTree(double[] lats, double[] lons, List<T> items) {
+        int n = items.size();
+        double latSum = 0;
+        for (double lat : lats) latSum += lat;
+        this.lonScale = n == 0 ? 1.0 : Math.cos(Math.toRadians(latSum / n));
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        double[] px = new double[n];
+        double[] py = new double[n];
+        for (int i = 0; i < n; i++) {
+            px[i] = lons[i] * lonScale;
+            py[i] = lats[i];
+        }
+        build(order, px, py, 0, n, 0);
+
+        this.xs = new double[n];
+        this.ys = new double[n];
+        this.items = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            xs[i] = px[order[i]];
+            ys[i] = py[order[i]];
+            this.items.add(items.get(order[i]));
+        }
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * (lat, lon) 에서 가까운 순서로 최대 k개
+     */
+    public List<T> nearest(double lat, double lon, int k) {
+        int limit = Math.min(k, items.size());
+        if (limit <= 0) return List.of();
+
+        Best best = new Best(limit);
+        search(lon * lonScale, lat, 0, items.size(), 0, best);
+
+        List<T> result = new ArrayList<>(best.size);
+        for (int i = 0; i < best.size; i++) result.add(items.get(best.index[i]));
+        return result;
+    }
+
+    // 가운데 원소를 기준으로 정렬 → 왼쪽 구간/오른쪽 구간을 다음 축으로 재귀 정렬
+    private static void build(Integer[] order, double[] px, double[] py, int lo, int hi, int depth) {
+        if (hi - lo <= 1) return;
+        double[] axis = (depth & 1) == 0 ? px : py;
+        Arrays.sort(order, lo, hi, (a, b) -> Double.compare(axis[a], axis[b]));
+        int mid = (lo + hi) >>> 1;
+        build(order, px, py, lo, mid, depth + 1);
+        build(order, px, py, mid + 1, hi, depth + 1);
+    }
+
+    private void search(double x, double y, int lo, int hi, int depth, Best best) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+
+        double dx = xs[mid] - x;
+        double dy = ys[mid] - y;
+        best.offer(mid, dx * dx + dy * dy);
+
+        double diff = (depth & 1) == 0 ? x - xs[mid] : y - ys[mid];
+        if (diff < 0) {
+            search(x, y, lo, mid, depth + 1, best);
+            if (diff * diff < best.worst()) search(x, y, mid + 1, hi, depth + 1, best);
+        } else {
+            search(x, y, mid + 1, hi, depth + 1, best);
+            if (diff * diff < best.worst()) search(x, y, lo, mid, depth + 1, best);
+        }
+    }
+
+    // 가까운 k개 후보 (거리 오름차순, k 가 작으므로 삽입 정렬)
+    private static final class Best {
+        final int[] index;
+        final double[] dist;
+        int size;
+
+        Best(int k) {
+            index = new int[k];
+            dist = new double[k];
+        }
+
+        double worst() {
+            return size < index.length ? Double.MAX_VALUE : dist[size - 1];
+        }
+
+        void offer(int i, double d) {
+            if (d >= worst()) return;
+            int pos = size < index.length ? size++ : size - 1;
+            while (pos > 0 && dist[pos - 1] > d) {
+                index[pos] = index[pos - 1];
+                dist[pos] = dist[pos - 1];
+                pos--;
+            }
+            index[pos] = i;
+            dist[pos] = d;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.solar.util;
+
+/**
+ * 기상청 단기예보/초단기예보 자료구분코드 (category)
+ * - 응답의 category 문자열을 문자열 비교 없이 enum 으로 바로 매핑하기 위한 코드표입니다.
+ */
+public enum KmaCategory {
+    // 단기예보 (getVilageFcst)
+    POP, // 강수확률 (%)
+    PTY, // 강수형태 (코드)
+    PCP, // 1시간 강수량 (범주 문자열 포함)
+    REH, // 습도 (%)
+    SNO, // 1시간 신적설 (범주 문자열 포함)
+    SKY, // 하늘상태 (코드)
+    TMP, // 1시간 기온 (℃)
+    TMN, // 일 최저기온 (℃)
+    TMX, // 일 최고기온 (℃)
+    UUU, // 풍속 동서성분 (m/s)
+    VVV, // 풍속 남북성분 (m/s)
+    WAV, // 파고 (M)
+    VEC, // 풍향 (deg)
+    WSD, // 풍속 (m/s)
+
+    // 초단기예보 (getUltraSrtFcst)
+    T1H, // 기온 (℃)
+    RN1, // 1시간 강수량 (범주 문자열 포함)
+    LGT; // 낙뢰 (kA)
+
+    private static final KmaCategory[] VALUES = values();
+
+    /**
+     * 파서 버퍼의 문자 구간을 그대로 비교해 코드를 찾습니다. (모르는 코드면 null)
+     */
+    public static KmaCategory of(char[] buf, int offset, int length) {
+        if (length != 3) return null;
+        for (KmaCategory category : VALUES) {
+            String code = category.name();
+            if (code.charAt(0) == buf[offset]
+                    && code.charAt(1) == buf[offset + 1]
+                    && code.charAt(2) == buf[offset + 2]) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,318 @@
+package com.solar.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 기상청 예보 응답(response.body.items.item)을 파싱한 결과 (열 지향 구조)
+ * - 예보 시각(fcstDate+fcstTime)마다 슬롯 번호를 매기고, 자료구분코드(category)별로 float[슬롯] 배열에 값을 담습니다.
+ * - 값이 없는 슬롯은 category별 비트맵(long[])으로 구분합니다.
+ * - 강수량/적설량의 범주 문자열("강수없음", "1mm 미만" 등)은 응답 단위 사전에 한 번만 두고 번호(byte)로 참조합니다.
+ * - 문자열은 화면/DTO 로 넘길 때(text)만 만듭니다.
+ * - 한 번 만들어지면 변경되지 않으므로 캐시에 넣고 여러 스레드가 함께 읽어도 됩니다.
+ *
+ * 사용 예)
+ *   for (int s = 0; s < forecast.slotCount(); s++) {
+ *       if (forecast.slotDate(s) != tomorrow) continue;
+ *       double tmp = forecast.value(KmaCategory.TMP, s); // 없으면 NaN
+ *   }
+ */
+public final class KmaForecast {
+
+    private static final int CATEGORY_COUNT = KmaCategory.values().length;
+    private static final float[] POW10 = {1f, 10f, 100f, 1_000f, 10_000f, 100_000f, 1_000_000f};
+
+    private final String resultCode;
+    private final int slotCount;
+    private final int[] slotDates;      // yyyyMMdd (시간순 정렬)
+    private final short[] slotTimes;    // HHmm
+    private final float[][] values;     // [category][slot], 응답에 없는 category 는 null
+    private final long[][] present;     // [category][slot / 64] 값 존재 비트맵
+    private final byte[][] scales;      // [category][slot] 소수 자릿수 (원문 복원용)
+    private final byte[][] textCodes;   // [category][slot] 범주 문자열 번호 (0: 숫자 값)
+    private final String[] dictionary;  // 범주 문자열 사전 (번호 - 1)
+
+    private KmaForecast(String resultCode, int slotCount, int[] slotDates, short[] slotTimes, float[][] values,
+                        long[][] present, byte[][] scales, byte[][] textCodes, String[] dictionary) {
+        this.resultCode = resultCode;
+        this.slotCount = slotCount;
+        this.slotDates = slotDates;
+        this.slotTimes = slotTimes;
+        this.values = values;
+        this.present = present;
+        this.scales = scales;
+        this.textCodes = textCodes;
+        this.dictionary = dictionary;
+    }
+
+    /** 응답 헤더의 resultCode ("00" 이 정상) */
+    public String getResultCode() {
+        return resultCode;
+    }
+
+    public boolean isOk() {
+        return "00".equals(resultCode);
+    }
+
+    // ================= 슬롯 (예보 시각) =================
+    public int slotCount() {
+        return slotCount;
+    }
+
+    /** 슬롯의 예보 날짜 (yyyyMMdd) */
+    public int slotDate(int slot) {
+        return slotDates[slot];
+    }
+
+    /** 슬롯의 예보 시각 (HHmm) */
+    public int slotTime(int slot) {
+        return slotTimes[slot];
+    }
+
+    /** (날짜, 시각) 의 슬롯 번호 (없으면 -1) */
+    public int slotOf(int date, int time) {
+        int lo = 0;
+        int hi = slotCount - 1;
+        long target = (long) date * 10_000 + time;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long key = (long) slotDates[mid] * 10_000 + slotTimes[mid];
+            if (key < target) lo = mid + 1;
+            else if (key > target) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    // ================= 값 조회 =================
+    public boolean has(KmaCategory category, int slot) {
+        long[] bits = present[category.ordinal()];
+        return bits != null && (bits[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /** 숫자 값 (없거나 범주 문자열이면 NaN) */
+    public double value(KmaCategory category, int slot) {
+        if (!has(category, slot) || isText(category, slot)) return Double.NaN;
+        return values[category.ordinal()][slot];
+    }
+
+    /**
+     * 원문 값 (화면 표시/DTO 용, 없으면 null)
+     * - 숫자는 그 칸의 응답에 온 소수 자릿수대로 다시 만듭니다. (예: "-1.2", "30", "3.0" 은 "3.0")
+     */
+    public String text(KmaCategory category, int slot) {
+        if (!has(category, slot)) return null;
+        int c = category.ordinal();
+        if (isText(category, slot)) return dictionary[(textCodes[c][slot] & 0xFF) - 1];
+
+        int scale = scales[c][slot];
+        long raw = Math.round(values[c][slot] * POW10[scale]);
+        if (scale == 0) return Long.toString(raw);
+
+        StringBuilder digits = new StringBuilder(Long.toString(Math.abs(raw)));
+        while (digits.length() <= scale) digits.insert(0, '0');
+        digits.insert(digits.length() - scale, '.');
+        if (raw < 0) digits.insert(0, '-');
+        return digits.toString();
+    }
+
+    private boolean isText(KmaCategory category, int slot) {
+        byte[] codes = textCodes[category.ordinal()];
+        return codes != null && codes[slot] != 0;
+    }
+
+    // ================= 날짜/시각 표시 헬퍼 =================
+    /** yyyyMMdd 정수 → "yyyyMMdd" */
+    public static String dateText(int date) {
+        return Integer.toString(date);
+    }
+
+    /** HHmm 정수 → "HHmm" (예: 600 → "0600") */
+    public static String timeText(int time) {
+        if (time >= 1000) return Integer.toString(time);
+        if (time >= 100) return "0" + time;
+        if (time >= 10) return "00" + time;
+        return "000" + time;
+    }
+
+    // ================= 파서용 빌더 =================
+    // item 을 읽는 순서대로 받아 (슬롯, category) 칸에 바로 채웁니다.
+    static final class Builder {
+        private String resultCode;
+        private int slotCount;
+        private int capacity = 64;
+        private int[] slotDates = new int[capacity];
+        private short[] slotTimes = new short[capacity];
+        private final float[][] values = new float[CATEGORY_COUNT][];
+        private final long[][] present = new long[CATEGORY_COUNT][];
+        private final byte[][] scales = new byte[CATEGORY_COUNT][];
+        private final byte[][] textCodes = new byte[CATEGORY_COUNT][];
+        private final List<String> dictionary = new ArrayList<>();
+        private int lastSlot = -1;
+
+        // 현재 읽는 중인 item
+        private KmaCategory category;
+        private int date;
+        private int time;
+        private int unscaled;
+        private int scale = -1;
+        private String text;
+
+        void resultCode(String resultCode) {
+            this.resultCode = resultCode;
+        }
+
+        void category(KmaCategory category) {
+            this.category = category;
+        }
+
+        void date(int date) {
+            this.date = date;
+        }
+
+        void time(int time) {
+            this.time = time;
+        }
+
+        void number(int unscaled, int scale) {
+            this.unscaled = unscaled;
+            this.scale = scale;
+            this.text = null;
+        }
+
+        void text(String text) {
+            this.unscaled = 0;
+            this.scale = -1;
+            this.text = text;
+        }
+
+        void endItem() {
+            if (category != null && (scale >= 0 || text != null)) {
+                int slot = slotFor(date, time);
+                int c = category.ordinal();
+                if (values[c] == null) {
+                    values[c] = new float[capacity];
+                    present[c] = new long[words(capacity)];
+                    scales[c] = new byte[capacity];
+                }
+
+                if (scale >= 0) {
+                    values[c][slot] = unscaled / POW10[scale];
+                    scales[c][slot] = (byte) scale;
+                    if (textCodes[c] != null) textCodes[c][slot] = 0;
+                    present[c][slot >>> 6] |= 1L << slot;
+                } else {
+                    byte code = codeOf(text);
+                    if (code != 0) {
+                        if (textCodes[c] == null) textCodes[c] = new byte[capacity];
+                        textCodes[c][slot] = code;
+                        present[c][slot >>> 6] |= 1L << slot;
+                    } else {
+                        // 사전이 가득 차면 이 칸은 값 없음 (숫자 0 으로 읽히지 않도록 존재 비트도 지움)
+                        present[c][slot >>> 6] &= ~(1L << slot);
+                    }
+                }
+            }
+
+            category = null;
+            date = 0;
+            time = 0;
+            unscaled = 0;
+            scale = -1;
+            text = null;
+        }
+
+        // 응답은 보통 시각순이므로 직전 슬롯부터 확인하고, 처음 보는 시각이면 새 슬롯을 엽니다.
+        private int slotFor(int date, int time) {
+            if (lastSlot >= 0 && slotDates[lastSlot] == date && slotTimes[lastSlot] == time) return lastSlot;
+            for (int s = slotCount - 1; s >= 0; s--) {
+                if (slotDates[s] == date && slotTimes[s] == time) return lastSlot = s;
+            }
+            if (slotCount == capacity) grow();
+            slotDates[slotCount] = date;
+            slotTimes[slotCount] = (short) time;
+            return lastSlot = slotCount++;
+        }
+
+        private byte codeOf(String text) {
+            int index = dictionary.indexOf(text);
+            if (index < 0) {
+                if (dictionary.size() >= 255) return 0; // 사전이 가득 참 (호출한 쪽에서 값 없음으로 처리)
+                dictionary.add(text);
+                index = dictionary.size() - 1;
+            }
+            return (byte) (index + 1);
+        }
+
+        private void grow() {
+            capacity *= 2;
+            slotDates = Arrays.copyOf(slotDates, capacity);
+            slotTimes = Arrays.copyOf(slotTimes, capacity);
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                if (values[c] != null) values[c] = Arrays.copyOf(values[c], capacity);
+                if (present[c] != null) present[c] = Arrays.copyOf(present[c], words(capacity));
+                if (scales[c] != null) scales[c] = Arrays.copyOf(scales[c], capacity);
+                if (textCodes[c] != null) textCodes[c] = Arrays.copyOf(textCodes[c], capacity);
+            }
+        }
+
+        KmaForecast build() {
+            int n = slotCount;
+            int[] order = sortedOrder();
+
+            int[] dates = new int[n];
+            short[] times = new short[n];
+            for (int s = 0; s < n; s++) {
+                dates[s] = slotDates[order[s]];
+                times[s] = slotTimes[order[s]];
+            }
+
+            float[][] outValues = new float[CATEGORY_COUNT][];
+            long[][] outPresent = new long[CATEGORY_COUNT][];
+            byte[][] outScales = new byte[CATEGORY_COUNT][];
+            byte[][] outCodes = new byte[CATEGORY_COUNT][];
+            for (int c = 0; c < CATEGORY_COUNT; c++) {
+                if (values[c] == null) continue;
+                outValues[c] = new float[n];
+                outPresent[c] = new long[words(n)];
+                outScales[c] = new byte[n];
+                if (textCodes[c] != null) outCodes[c] = new byte[n];
+                for (int s = 0; s < n; s++) {
+                    int from = order[s];
+                    if ((present[c][from >>> 6] & (1L << from)) == 0) continue;
+                    outPresent[c][s >>> 6] |= 1L << s;
+                    outValues[c][s] = values[c][from];
+                    outScales[c][s] = scales[c][from];
+                    if (outCodes[c] != null) outCodes[c][s] = textCodes[c][from];
+                }
+            }
+
+            return new KmaForecast(resultCode, n, dates, times, outValues, outPresent, outScales, outCodes,
+                    dictionary.toArray(new String[0]));
+        }
+
+        // 슬롯을 (날짜, 시각) 순으로 정렬한 순서 (이미 정렬되어 있으면 그대로)
+        private int[] sortedOrder() {
+            Integer[] boxed = new Integer[slotCount];
+            boolean sorted = true;
+            for (int s = 0; s < slotCount; s++) {
+                boxed[s] = s;
+                if (s > 0 && key(s - 1) > key(s)) sorted = false;
+            }
+            if (!sorted) Arrays.sort(boxed, (a, b) -> Long.compare(key(a), key(b)));
+
+            int[] order = new int[slotCount];
+            for (int s = 0; s < slotCount; s++) order[s] = boxed[s];
+            return order;
+        }
+
+        private long key(int slot) {
+            return (long) slotDates[slot] * 10_000 + slotTimes[slot];
+        }
+
+        private static int words(int slots) {
+            return (slots + 63) >>> 6;
+        }
+    }
+}
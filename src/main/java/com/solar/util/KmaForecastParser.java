@@ -0,0 +1,157 @@
+package com.solar.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 기상청 단기예보/초단기예보 응답 스트리밍 파서
+ * - ObjectMapper.readTree 처럼 JsonNode 트리를 만들지 않고, 토큰을 읽으면서 바로 KmaForecast 에 채웁니다.
+ * - category/fcstDate/fcstTime/fcstValue 는 파서 내부 문자 버퍼에서 직접 해석하므로 중간 문자열이 생기지 않습니다.
+ *   (숫자가 아닌 강수량 범주 문자열만 예외)
+ *
+ * 응답 구조)
+ *   {"response":{"header":{"resultCode":"00",...},
+ *                "body":{"items":{"item":[{"category":"TMP","fcstDate":"20250101","fcstTime":"0600","fcstValue":"-3",...}]}}}}
+ */
+public final class KmaForecastParser {
+
+    // JsonFactory 는 스레드 안전하며 필드명 심볼 테이블을 공유합니다.
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private KmaForecastParser() {
+    }
+
+    public static KmaForecast parse(InputStream in) throws IOException {
+        KmaForecast.Builder builder = new KmaForecast.Builder();
+        try (JsonParser p = FACTORY.createParser(in)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) throw new IOException("기상청 응답이 JSON 객체가 아닙니다.");
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                if ("response".equals(field)) readResponse(p, builder);
+                else p.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    private static void readResponse(JsonParser p, KmaForecast.Builder builder) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) { p.skipChildren(); return; }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("header".equals(field)) readHeader(p, builder);
+            else if ("body".equals(field)) readBody(p, builder);
+            else p.skipChildren();
+        }
+    }
+
+    private static void readHeader(JsonParser p, KmaForecast.Builder builder) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) { p.skipChildren(); return; }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("resultCode".equals(field)) builder.resultCode(p.getText());
+            else p.skipChildren();
+        }
+    }
+
+    private static void readBody(JsonParser p, KmaForecast.Builder builder) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) { p.skipChildren(); return; }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("items".equals(field)) readItems(p, builder);
+            else p.skipChildren();
+        }
+    }
+
+    // 결과가 없으면 items 가 "" 로 오는 경우가 있어 객체일 때만 읽습니다.
+    private static void readItems(JsonParser p, KmaForecast.Builder builder) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) { p.skipChildren(); return; }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("item".equals(field) && p.currentToken() == JsonToken.START_ARRAY) {
+                while (p.nextToken() == JsonToken.START_OBJECT) readItem(p, builder);
+            } else {
+                p.skipChildren();
+            }
+        }
+    }
+
+    private static void readItem(JsonParser p, KmaForecast.Builder builder) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            // 필드명은 JsonFactory 심볼 테이블에서 intern 된 문자열이 재사용됩니다.
+            String field = p.currentName();
+            JsonToken token = p.nextToken();
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) { p.skipChildren(); continue; }
+
+            switch (field) {
+                case "category" -> builder.category(KmaCategory.of(p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
+                case "fcstDate" -> builder.date(parseDigits(p));
+                case "fcstTime" -> builder.time(parseDigits(p));
+                case "fcstValue" -> readValue(p, builder);
+                default -> { } // baseDate, baseTime, nx, ny 는 요청값과 같으므로 건너뜀
+            }
+        }
+        builder.endItem();
+    }
+
+    // "20250101", "0600" 같은 숫자 문자열 → int
+    private static int parseDigits(JsonParser p) throws IOException {
+        char[] buf = p.getTextCharacters();
+        int offset = p.getTextOffset();
+        int end = offset + p.getTextLength();
+        int result = 0;
+        for (int i = offset; i < end; i++) {
+            char c = buf[i];
+            if (c < '0' || c > '9') throw new IOException("숫자가 아닌 날짜/시각 값");
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    // "-1.2", "30" 은 (정수, 소수 자릿수) 로, 그 외 범주 문자열만 String 으로 보관
+    private static void readValue(JsonParser p, KmaForecast.Builder builder) throws IOException {
+        char[] buf = p.getTextCharacters();
+        int offset = p.getTextOffset();
+        int length = p.getTextLength();
+        int end = offset + length;
+
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+
+        long unscaled = 0;
+        int scale = -1;
+        int digits = 0;
+        boolean numeric = i < end;
+        for (; i < end; i++) {
+            char c = buf[i];
+            if (c >= '0' && c <= '9') {
+                unscaled = unscaled * 10 + (c - '0');
+                digits++;
+                if (scale >= 0) scale++;
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                numeric = false;
+                break;
+            }
+        }
+
+        if (numeric && digits > 0 && digits <= 9 && scale <= 6) {
+            builder.number((int) (negative ? -unscaled : unscaled), Math.max(scale, 0));
+        } else {
+            builder.text(new String(buf, offset, length));
+        }
+    }
+}
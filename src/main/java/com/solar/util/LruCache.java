@@ -0,0 +1,97 @@
+package com.solar.util;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최대 개수가 정해진 LRU 캐시 (항목별 만료 시각 + 적중률/퇴출 통계)
+ * - 가득 차면 가장 오래 쓰이지 않은 항목부터 내보냅니다. (eviction)
+ * - 만료 시각이 지난 항목은 조회 시점에 제거하고 expiration 으로 따로 셉니다.
+ * - 값 계산은 조회 쪽에서 직접 하므로, 같은 키를 동시에 계산하지 않게 하려면 SingleFlight 와 함께 씁니다.
+ */
+public class LruCache<K, V> {
+
+    private final int maxEntries;
+    private final LinkedHashMap<K, Entry<V>> store;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private record Entry<V>(V value, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    public LruCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        // accessOrder=true: get 할 때마다 맨 뒤로 이동 → 맨 앞이 가장 오래 쓰이지 않은 항목
+        this.store = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * 만료되지 않은 값을 반환합니다. (없거나 만료되었으면 null)
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = store.get(key);
+        if (entry != null && entry.isExpired(Instant.now())) {
+            store.remove(key);
+            expirations.increment();
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * 값을 저장합니다. 가득 찼으면 만료된 항목 → 가장 오래 쓰이지 않은 항목 순으로 비웁니다.
+     */
+    public synchronized void put(K key, V value, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (!now.isBefore(expiresAt)) return;
+        store.put(key, new Entry<>(value, expiresAt));
+        if (store.size() <= maxEntries) return;
+
+        store.values().removeIf(e -> {
+            if (!e.isExpired(now)) return false;
+            expirations.increment();
+            return true;
+        });
+        Iterator<Entry<V>> eldest = store.values().iterator();
+        while (store.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public synchronized int size() {
+        return store.size();
+    }
+
+    /** 모니터링용 통계 (항목 수, 적중/미스, 적중률, 퇴출/만료 수) */
+    public Map<String, Object> snapshot() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", size());
+        map.put("maxEntries", maxEntries);
+        map.put("hits", hitCount);
+        map.put("misses", missCount);
+        map.put("hitRatio", total == 0 ? 0.0 : Math.round(hitCount * 1000.0 / total) / 1000.0);
+        map.put("evictions", evictions.sum());
+        map.put("expirations", expirations.sum());
+        return map;
+    }
+}
@@ -0,0 +1,78 @@
+package com.solar.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 정렬 배열 기반 접두어 색인 (자동완성용)
+ * - 키를 사전순으로 정렬해 두고, 접두어의 시작 위치를 이진 탐색으로 찾은 뒤 접두어가 유지되는 동안만 읽습니다.
+ * - 같은 값을 여러 키(이름, 이름 일부, 초성 등)로 등록할 수 있습니다. 결과 중복 제거/순위는 호출 측이 정합니다.
+ * - build() 이후에는 읽기 전용이므로 여러 스레드가 동시에 조회해도 안전합니다.
+ */
+public final class PrefixIndex<T> {
+
+    public record Match<T>(String key, T value) {}
+
+    private final String[] keys;
+    private final List<T> values;
+
+    private PrefixIndex(String[] keys, List<T> values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * prefix 로 시작하는 키를 사전순으로 최대 max 개
+     */
+    public List<Match<T>> search(String prefix, int max) {
+        List<Match<T>> result = new ArrayList<>();
+        if (prefix.isEmpty()) return result;
+
+        int i = lowerBound(prefix);
+        while (i < keys.length && result.size() < max && keys[i].startsWith(prefix)) {
+            result.add(new Match<>(keys[i], values.get(i)));
+            i++;
+        }
+        return result;
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    public static final class Builder<T> {
+        private final List<Match<T>> entries = new ArrayList<>();
+
+        public Builder<T> add(String key, T value) {
+            if (key != null && !key.isEmpty()) entries.add(new Match<>(key, value));
+            return this;
+        }
+
+        public PrefixIndex<T> build() {
+            entries.sort(Comparator.comparing(Match::key));
+            String[] keys = new String[entries.size()];
+            List<T> values = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                keys[i] = entries.get(i).key();
+                values.add(entries.get(i).value());
+            }
+            return new PrefixIndex<>(keys, values);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.solar.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 계산을 하나로 합치는 도구 (single-flight)
+ * - 처음 들어온 요청이 직접 계산하고, 그동안 같은 키로 들어온 요청은 그 결과를 함께 기다립니다.
+ * - 계산이 끝나면 키를 비우므로 결과를 보관하지는 않습니다. (보관은 캐시의 역할)
+ * - 계산하던 요청이 자기 시간 예산(DeadlineScope) 때문에 취소(인터럽트)되면 그 결과(보통 null)를 나눠 주지 않고,
+ *   기다리던 요청 중 하나가 다시 계산합니다. (한 요청의 데드라인이 다른 요청을 실패시키지 않도록)
+ * - 기다리던 요청이 취소되면 계산 완료를 기다리지 않고 바로 CancellationException 으로 빠져나갑니다.
+ */
+public class SingleFlight<K, V> {
+
+    // abandoned: 계산하던 요청이 취소되어 결과를 쓸 수 없음 → 기다리던 요청은 다시 시도
+    private record Result<V>(V value, boolean abandoned) {}
+
+    private final ConcurrentMap<K, CompletableFuture<Result<V>>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> loader) {
+        while (true) {
+            CompletableFuture<Result<V>> mine = new CompletableFuture<>();
+            CompletableFuture<Result<V>> leader = inFlight.putIfAbsent(key, mine);
+            if (leader == null) return lead(key, mine, loader);
+
+            Result<V> result = await(leader);
+            if (!result.abandoned()) return result.value();
+        }
+    }
+
+    // 키를 먼저 비운 뒤 결과를 알려야, 다시 시도하는 요청이 끝난 계산을 또 만나지 않습니다.
+    private V lead(K key, CompletableFuture<Result<V>> mine, Supplier<V> loader) {
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            if (Thread.currentThread().isInterrupted()) mine.complete(new Result<>(null, true));
+            else mine.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, mine);
+        mine.complete(new Result<>(value, Thread.currentThread().isInterrupted()));
+        return value;
+    }
+
+    private Result<V> await(CompletableFuture<Result<V>> leader) {
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("같은 키의 계산을 기다리던 중 취소되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
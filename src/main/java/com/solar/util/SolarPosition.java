@@ -0,0 +1,103 @@
+package com.solar.util;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 태양 위치 / 일출·일몰 계산 (NOAA Solar Calculator 근사식)
+ * - 위경도와 날짜만으로 결정되는 값이라 외부 API 없이 서버 안에서 바로 계산합니다.
+ * - 일출/일몰은 태양 윗가장자리 + 대기 굴절을 반영한 천정각 90.833도 기준이며, 오차는 1분 안팎입니다.
+ */
+public final class SolarPosition {
+
+    private static final double SUNRISE_ZENITH = 90.833;
+
+    private SolarPosition() {
+    }
+
+    /**
+     * 일출/일몰 시각 (해가 지지 않거나 뜨지 않는 날은 각각 null)
+     */
+    public record SunTimes(ZonedDateTime sunrise, ZonedDateTime sunset) {}
+
+    /**
+     * 해당 날짜의 일출/일몰 시각 (zone 기준)
+     */
+    public static SunTimes sunTimes(double lat, double lon, LocalDate date, ZoneId zone) {
+        ZonedDateTime noon = date.atTime(12, 0).atZone(zone);
+        double[] sun = sunAt(noon);
+        double declination = sun[0];
+        double equationOfTime = sun[1];
+
+        double latRad = Math.toRadians(lat);
+        double cosHourAngle = Math.cos(Math.toRadians(SUNRISE_ZENITH)) / (Math.cos(latRad) * Math.cos(declination))
+                - Math.tan(latRad) * Math.tan(declination);
+        if (cosHourAngle > 1 || cosHourAngle < -1) return new SunTimes(null, null); // 극야 / 백야
+
+        double hourAngle = Math.toDegrees(Math.acos(cosHourAngle));
+        double offsetMinutes = noon.getOffset().getTotalSeconds() / 60.0;
+        double solarNoon = 720 - 4 * lon - equationOfTime + offsetMinutes; // 자정 기준 분
+
+        return new SunTimes(atMinutes(date, zone, solarNoon - hourAngle * 4),
+                atMinutes(date, zone, solarNoon + hourAngle * 4));
+    }
+
+    /**
+     * 해당 시각의 태양 고도각 sin 값 (0 이하이면 해가 진 상태, 대기 굴절 미반영)
+     */
+    public static double sinElevation(double lat, double lon, ZonedDateTime time) {
+        double[] sun = sunAt(time);
+        double declination = sun[0];
+        double equationOfTime = sun[1];
+
+        double utcMinutes = time.toLocalTime().toSecondOfDay() / 60.0 - time.getOffset().getTotalSeconds() / 60.0;
+        double trueSolarMinutes = utcMinutes + equationOfTime + 4 * lon;
+        double hourAngle = Math.toRadians(trueSolarMinutes / 4 - 180);
+
+        double latRad = Math.toRadians(lat);
+        return Math.sin(latRad) * Math.sin(declination)
+                + Math.cos(latRad) * Math.cos(declination) * Math.cos(hourAngle);
+    }
+
+    // {태양 적위(rad), 균시차(분)}
+    private static double[] sunAt(ZonedDateTime time) {
+        double julianDay = time.toInstant().getEpochSecond() / 86400.0 + 2440587.5;
+        double t = (julianDay - 2451545.0) / 36525.0; // 율리우스 세기
+
+        double meanLong = Math.toRadians(normalize(280.46646 + t * (36000.76983 + t * 0.0003032)));
+        double meanAnomaly = Math.toRadians(357.52911 + t * (35999.05029 - 0.0001537 * t));
+        double eccentricity = 0.016708634 - t * (0.000042037 + 0.0000001267 * t);
+
+        double center = Math.sin(meanAnomaly) * (1.914602 - t * (0.004817 + 0.000014 * t))
+                + Math.sin(2 * meanAnomaly) * (0.019993 - 0.000101 * t)
+                + Math.sin(3 * meanAnomaly) * 0.000289;
+        double trueLong = Math.toDegrees(meanLong) + center;
+        double omega = Math.toRadians(125.04 - 1934.136 * t);
+        double apparentLong = Math.toRadians(trueLong - 0.00569 - 0.00478 * Math.sin(omega));
+
+        double meanObliquity = 23 + (26 + (21.448 - t * (46.815 + t * (0.00059 - t * 0.001813))) / 60) / 60;
+        double obliquity = Math.toRadians(meanObliquity + 0.00256 * Math.cos(omega));
+
+        double declination = Math.asin(Math.sin(obliquity) * Math.sin(apparentLong));
+
+        double y = Math.tan(obliquity / 2) * Math.tan(obliquity / 2);
+        double equationOfTime = 4 * Math.toDegrees(y * Math.sin(2 * meanLong)
+                - 2 * eccentricity * Math.sin(meanAnomaly)
+                + 4 * eccentricity * y * Math.sin(meanAnomaly) * Math.cos(2 * meanLong)
+                - 0.5 * y * y * Math.sin(4 * meanLong)
+                - 1.25 * eccentricity * eccentricity * Math.sin(2 * meanAnomaly));
+
+        return new double[]{declination, equationOfTime};
+    }
+
+    private static ZonedDateTime atMinutes(LocalDate date, ZoneId zone, double minutes) {
+        long seconds = Math.round(minutes * 60);
+        return date.atStartOfDay(zone).plusSeconds(seconds);
+    }
+
+    private static double normalize(double degrees) {
+        double d = degrees % 360;
+        return d < 0 ? d + 360 : d;
+    }
+}
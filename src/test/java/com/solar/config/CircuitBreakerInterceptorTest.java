@@ -0,0 +1,113 @@
+package com.solar.config;
+
+import com.solar.config.UpstreamHttpClients.CircuitBreakerInterceptor;
+import com.solar.config.UpstreamHttpClients.Upstream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerInterceptorTest {
+
+    private static final String PATH = "/bundle";
+    private static final MockClientHttpRequest REQUEST =
+            new MockClientHttpRequest(HttpMethod.POST, URI.create("http://localhost:5000" + PATH));
+
+    private static final ClientHttpRequestExecution OK = (request, body) -> response(200);
+    private static final ClientHttpRequestExecution SERVER_ERROR = (request, body) -> response(503);
+    private static final ClientHttpRequestExecution REFUSED = (request, body) -> {
+        throw new IOException("Connection refused");
+    };
+
+    // 우리 쪽 취소(인터럽트)로 끝난 호출은 실패로 세지 않고, 연결 실패는 실패로 세어 차단
+    @Test
+    void cancellationIsNotCounted() throws Exception {
+        CircuitBreakerInterceptor interceptor = interceptor(60_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(InterruptedIOException.class, () -> interceptor.intercept(REQUEST, new byte[0],
+                    (request, body) -> { throw new InterruptedIOException("취소"); }));
+        }
+        // 스레드 인터럽트 상태로 끝난 일반 IOException 도 취소로 봄
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IOException.class, () -> interceptor.intercept(REQUEST, new byte[0], REFUSED));
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals("CLOSED", state(interceptor));
+        assertEquals(0, breaker(interceptor).get("windowCalls"));
+
+        assertThrows(IOException.class, () -> interceptor.intercept(REQUEST, new byte[0], REFUSED));
+        assertThrows(IOException.class, () -> interceptor.intercept(REQUEST, new byte[0], REFUSED));
+        assertEquals("OPEN", state(interceptor));
+
+        // 차단 중에는 연결을 시도하지 않음
+        AtomicInteger executed = new AtomicInteger();
+        IOException rejected = assertThrows(IOException.class, () -> interceptor.intercept(REQUEST, new byte[0],
+                (request, body) -> { executed.incrementAndGet(); return response(200); }));
+        assertTrue(rejected.getMessage().startsWith("회로 차단 중"));
+        assertEquals(0, executed.get());
+    }
+
+    // 시험 호출이 Error 로 끝나도 finally 에서 자리를 반납해, 다음 호출이 다시 시험하고 회로를 닫을 수 있음
+    @Test
+    void probeIsReleasedWhenErrorEscapes() throws Exception {
+        CircuitBreakerInterceptor interceptor = interceptor(0);
+        interceptor.intercept(REQUEST, new byte[0], SERVER_ERROR);
+        interceptor.intercept(REQUEST, new byte[0], SERVER_ERROR);
+        assertEquals("OPEN", state(interceptor));
+
+        assertThrows(StackOverflowError.class, () -> interceptor.intercept(REQUEST, new byte[0],
+                (request, body) -> { throw new StackOverflowError(); }));
+        assertEquals("HALF_OPEN", state(interceptor));
+
+        interceptor.intercept(REQUEST, new byte[0], OK);
+        assertEquals("CLOSED", state(interceptor));
+    }
+
+    // 시험 호출이 취소되어도 자리를 반납하고, 회로를 다시 열지 않음
+    @Test
+    void cancelledProbeDoesNotReopen() throws Exception {
+        CircuitBreakerInterceptor interceptor = interceptor(0);
+        interceptor.intercept(REQUEST, new byte[0], SERVER_ERROR);
+        interceptor.intercept(REQUEST, new byte[0], SERVER_ERROR);
+
+        assertThrows(InterruptedIOException.class, () -> interceptor.intercept(REQUEST, new byte[0],
+                (request, body) -> { throw new InterruptedIOException("취소"); }));
+        assertEquals("HALF_OPEN", state(interceptor));
+        assertEquals(1L, breaker(interceptor).get("opened"));
+
+        interceptor.intercept(REQUEST, new byte[0], OK);
+        assertEquals("CLOSED", state(interceptor));
+    }
+
+    private static CircuitBreakerInterceptor interceptor(long openMs) {
+        return new CircuitBreakerInterceptor(Upstream.AI_SERVER, 2, 2, 0.5, openMs);
+    }
+
+    private static MockClientHttpResponse response(int status) {
+        return new MockClientHttpResponse(new byte[0], HttpStatusCode.valueOf(status));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> breaker(CircuitBreakerInterceptor interceptor) {
+        return (Map<String, Object>) interceptor.snapshot().get(PATH);
+    }
+
+    private static Object state(CircuitBreakerInterceptor interceptor) {
+        return breaker(interceptor).get("state");
+    }
+}
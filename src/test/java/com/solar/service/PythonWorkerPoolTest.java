@@ -0,0 +1,101 @@
+package com.solar.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * src/test/resources/worker/fake_worker.py 를 워커로 띄워 풀의 동작을 확인합니다. (python3 필요)
+ */
+class PythonWorkerPoolTest {
+
+    private static final float[][] ROWS = {{1f, 2f}, {3f, 4f}};
+    private static final double[] SUMS = {3.0, 7.0};
+    private static final long WAIT_MILLIS = 10_000;
+
+    private PythonWorkerPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) pool.close();
+    }
+
+    // 워커 1개를 계속 재사용하며 예측
+    @Test
+    void reusesWorkerAcrossCalls() throws Exception {
+        pool = startPool(5_000);
+
+        assertArrayEquals(SUMS, pool.predict(ROWS), 0.0);
+        assertArrayEquals(SUMS, pool.predict(ROWS), 0.0);
+        assertEquals(2L, pool.snapshot().get("completed"));
+        assertEquals(0L, pool.snapshot().get("restarts"));
+    }
+
+    // 응답 시간이 초과되면 null 을 돌려주고, 그 워커는 버리고 새 워커로 다음 요청을 처리
+    @Test
+    void timedOutWorkerIsReplaced() throws Exception {
+        pool = startPool(500);
+
+        long start = System.nanoTime();
+        assertNull(pool.predict(new float[][]{{-1f}}));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_500);
+        assertEquals(1L, pool.snapshot().get("timeouts"));
+        assertEquals(1L, pool.snapshot().get("restarts"));
+
+        awaitUntil(() -> pool.snapshot().get("idle").equals(1));
+        assertArrayEquals(SUMS, pool.predict(ROWS), 0.0);
+    }
+
+    // 처리 중 종료된 워커는 실패로 세고, 새로 띄운 워커가 다음 요청을 처리
+    @Test
+    void deadWorkerIsReplaced() throws Exception {
+        pool = startPool(5_000);
+
+        assertNull(pool.predict(new float[][]{{-2f}}));
+        assertEquals(1L, pool.snapshot().get("failed"));
+
+        assertArrayEquals(SUMS, pool.predict(ROWS), 0.0);
+        assertEquals(1L, pool.snapshot().get("restarts"));
+    }
+
+    // 이전 요청 id 로 온 늦은 응답은 무시하고 현재 요청의 응답만 사용
+    @Test
+    void ignoresReplyForOtherRequestId() throws Exception {
+        pool = startPool(5_000);
+
+        assertArrayEquals(new double[]{-2.5}, pool.predict(new float[][]{{-3f, 0.5f}}), 0.0);
+        assertArrayEquals(SUMS, pool.predict(ROWS), 0.0);
+    }
+
+    private static PythonWorkerPool startPool(long timeoutMs) throws Exception {
+        PythonWorkerPool pool = new PythonWorkerPool();
+        ReflectionTestUtils.setField(pool, "size", 1);
+        ReflectionTestUtils.setField(pool, "queueCapacity", 4);
+        ReflectionTestUtils.setField(pool, "timeoutMs", timeoutMs);
+        ReflectionTestUtils.setField(pool, "startupTimeoutMs", WAIT_MILLIS);
+        ReflectionTestUtils.setField(pool, "pythonCommand", "python3");
+        ReflectionTestUtils.setField(pool, "script",
+                Path.of(PythonWorkerPoolTest.class.getResource("/worker/fake_worker.py").toURI()).toString());
+        pool.start();
+        assertTrue(pool.isStarted());
+        assertEquals(1, pool.snapshot().get("idle"));
+        return pool;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "조건 대기 시간 초과");
+            Thread.sleep(20);
+        }
+    }
+}
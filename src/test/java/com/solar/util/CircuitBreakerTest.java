@@ -0,0 +1,109 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private static final long LONG_OPEN_MS = 60_000;
+
+    // 최소 호출 수를 채우고 실패 비율이 기준 이상이 되면 OPEN, OPEN 동안은 허가를 내주지 않음
+    @Test
+    void opensWhenFailureRateReached() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.5, LONG_OPEN_MS);
+
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+        assertEquals(1L, breaker.snapshot().get("rejected"));
+    }
+
+    // OPEN 시간이 지나면 시험 호출 1건만 통과, 성공하면 기록을 비우고 CLOSED
+    @Test
+    void probeSuccessCloses() {
+        CircuitBreaker breaker = opened(0);
+
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertNotNull(probe);
+        assertTrue(probe.probe());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire()); // 시험 호출 진행 중에는 나머지 거절
+
+        breaker.onSuccess(probe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.snapshot().get("windowCalls"));
+        assertFalse(breaker.tryAcquire().probe());
+    }
+
+    // 시험 호출이 실패하면 다시 OPEN
+    @Test
+    void probeFailureReopens() {
+        CircuitBreaker breaker = opened(0);
+
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2L, breaker.snapshot().get("opened"));
+    }
+
+    // 차단 전에 받은 허가로 늦게 도착한 결과는 현재 상태에 반영하지 않음
+    @Test
+    void staleResultIsIgnored() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 2, 0.5, 0);
+        CircuitBreaker.Permit first = breaker.tryAcquire();
+        CircuitBreaker.Permit second = breaker.tryAcquire();
+        CircuitBreaker.Permit late = breaker.tryAcquire();
+        breaker.onFailure(first);
+        breaker.onFailure(second);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertNotNull(probe);
+
+        // 늦은 성공이 시험 호출 대신 회로를 닫거나, 늦은 실패가 다시 열지 않음
+        breaker.onSuccess(late);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onFailure(late);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+
+        breaker.onSuccess(probe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    // 결과 없이 반납된 시험 호출은 자리만 비워, 다음 호출이 다시 시험할 수 있음
+    @Test
+    void releaseFreesProbe() {
+        CircuitBreaker breaker = opened(0);
+
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertNull(breaker.tryAcquire());
+
+        breaker.release(probe);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        CircuitBreaker.Permit retry = breaker.tryAcquire();
+        assertNotNull(retry);
+        assertTrue(retry.probe());
+
+        // 이전 세대의 허가를 반납해도 진행 중인 시험 호출 자리는 그대로
+        breaker.release(new CircuitBreaker.Permit(0, true));
+        assertNull(breaker.tryAcquire());
+    }
+
+    private static CircuitBreaker opened(long openMillis) {
+        CircuitBreaker breaker = new CircuitBreaker(2, 2, 0.5, openMillis);
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
@@ -0,0 +1,71 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineScopeTest {
+
+    private static final long WAIT_SECONDS = 5;
+
+    // 제시간에 끝난 작업(예외로 끝난 작업 포함)만 돌려주고, 늦은 작업은 데드라인에 인터럽트
+    @Test
+    void joinCancelsTasksPastDeadline() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        long start = System.nanoTime();
+        Set<String> done;
+        try (DeadlineScope scope = new DeadlineScope(Duration.ofMillis(300))) {
+            scope.fork("fast", () -> {});
+            scope.fork("failing", () -> { throw new IllegalStateException("upstream down"); });
+            scope.fork("slow", () -> sleepUntilInterrupted(interrupted));
+            done = scope.join();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(Set.of("fast", "failing"), done);
+        assertTrue(interrupted.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(elapsedMs < 2_000, "elapsed " + elapsedMs + "ms");
+    }
+
+    // join 하지 않고 닫아도 남은 작업은 모두 취소
+    @Test
+    void closeCancelsUnjoinedTasks() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (DeadlineScope scope = new DeadlineScope(Duration.ofSeconds(60))) {
+            scope.fork("slow", () -> {
+                started.countDown();
+                sleepUntilInterrupted(interrupted);
+            });
+            assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        }
+        assertTrue(interrupted.await(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    // 예산을 다 쓴 범위는 남은 시간이 0 이고, 끝나지 않은 작업을 기다리지 않음
+    @Test
+    void exhaustedBudgetDoesNotWait() {
+        long start = System.nanoTime();
+        try (DeadlineScope scope = new DeadlineScope(Duration.ZERO)) {
+            assertEquals(Duration.ZERO, scope.remaining());
+            scope.fork("slow", () -> sleepUntilInterrupted(new CountDownLatch(1)));
+            assertEquals(Set.of(), scope.join());
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs < 2_000, "elapsed " + elapsedMs + "ms");
+    }
+
+    private static void sleepUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(60_000);
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+    }
+}
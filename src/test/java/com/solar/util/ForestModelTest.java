@@ -0,0 +1,57 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ForestModelTest {
+
+    // src/test/resources/forest/make_fixture.py 가 만든 모델과 같은 스크립트가 출력한 기대값
+    private static final float[][] ROWS = {
+            {0.1f, 12.75f, -1.5f},
+            {0.05f, 0.0f, 0.0f},
+            {0.1f, 13.0f, -2.0f},
+            {0.2f, 1.0f, -1.5f},
+            {0.2f, 1.0f, -1.49f},
+    };
+    private static final double[] EXPECTED = {
+            0.3444444444444444,
+            0.26111111111111107,
+            0.4694444444444444,
+            0.26666666666666666,
+            0.4666666666666666,
+    };
+
+    // 메모리 매핑으로 연 모델이 sklearn 규칙으로 계산한 값과 정확히 같은지
+    @Test
+    void matchesExportedPredictions() throws Exception {
+        ForestModel model = ForestModel.load(Path.of(ForestModelTest.class.getResource("/forest/fixture.bin").toURI()));
+
+        assertEquals(3, model.getFeatureCount());
+        assertEquals(3, model.getTreeCount());
+        assertArrayEquals(EXPECTED, model.predict(ROWS), 0.0);
+        for (int i = 0; i < ROWS.length; i++) {
+            assertEquals(EXPECTED[i], model.predict(ROWS[i]), 0.0);
+        }
+    }
+
+    // 0.1f 는 0.1(double) 보다 커서 오른쪽, float32(0.1) 기준과는 같아서 왼쪽으로 가야 함 (입력을 double 로 읽으면 어긋남)
+    @Test
+    void comparesFloatInputAgainstDoubleThreshold() throws Exception {
+        ForestModel model = ForestModel.of(readFixture());
+
+        // 나무0: 0.1f > 0.1 → 12.75 <= 12.75 → 0.5 / 나무1: 0.1f <= float32(0.1) → 1/3 / 나무2: 0.2
+        assertEquals((0.5 + 1.0 / 3 + 0.2) / 3, model.predict(ROWS[0]), 0.0);
+    }
+
+    private static ByteBuffer readFixture() throws Exception {
+        try (InputStream in = ForestModelTest.class.getResourceAsStream("/forest/fixture.bin")) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GridProjectionTest {
+
+    // 기상청 격자 좌표표(weather_location.csv)의 행정구역 (위도, 경도 → nx, ny)
+    @Test
+    void toGridMatchesKmaTable() {
+        assertArrayEquals(new int[]{60, 127}, GridProjection.toGrid(37.5635694444444, 126.980008333333)); // 서울특별시
+        assertArrayEquals(new int[]{60, 127}, GridProjection.toGrid(37.5610027777777, 126.999641666666)); // 서울 중구
+        assertArrayEquals(new int[]{98, 76}, GridProjection.toGrid(35.1731861111111, 129.082075));        // 부산 연제구
+        assertArrayEquals(new int[]{67, 100}, GridProjection.toGrid(36.3524833333333, 127.385775));       // 대전 서구
+        assertArrayEquals(new int[]{59, 74}, GridProjection.toGrid(35.1494833333333, 126.893411111111));  // 광주 서구
+        assertArrayEquals(new int[]{53, 38}, GridProjection.toGrid(33.4963111111111, 126.533208333333));  // 제주시
+    }
+
+    // 기상청 변환 예제: (60, 127) → 북위 37.579871, 동경 126.989352
+    @Test
+    void toLatLonMatchesKmaExample() {
+        double[] latLon = GridProjection.toLatLon(60, 127);
+        assertEquals(37.579871, latLon[0], 1e-4);
+        assertEquals(126.989352, latLon[1], 1e-4);
+    }
+
+    // 모든 격자 칸 중심은 보조 표를 거쳐도 자기 칸으로 돌아와야 함
+    @Test
+    void everyCellRoundTrips() {
+        for (int ny = 1; ny <= GridProjection.NY; ny++) {
+            for (int nx = 1; nx <= GridProjection.NX; nx++) {
+                double[] latLon = GridProjection.toLatLon(nx, ny);
+                int[] grid = GridProjection.toGrid(latLon[0], latLon[1]);
+                assertEquals(nx, grid[0], "nx at " + nx + "," + ny);
+                assertEquals(ny, grid[1], "ny at " + nx + "," + ny);
+            }
+        }
+    }
+
+    @Test
+    void inGridBounds() {
+        assertTrue(GridProjection.inGrid(1, 1));
+        assertTrue(GridProjection.inGrid(GridProjection.NX, GridProjection.NY));
+        assertFalse(GridProjection.inGrid(0, 127));
+        assertFalse(GridProjection.inGrid(60, GridProjection.NY + 1));
+    }
+
+    // 서울시청 ~ 부산시청 약 325km
+    @Test
+    void distanceKm() {
+        assertEquals(325, GridProjection.distanceKm(37.5665, 126.9780, 35.1796, 129.0756), 5);
+        assertEquals(0, GridProjection.distanceKm(60, 127, 60, 127), 1e-9);
+    }
+}
@@ -0,0 +1,75 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IrradianceEngineTest {
+
+    // 모델 학습 때 쓴 식 (predict.py 에 있던 calculate_theoretical_radiation 과 같은 식)
+    private static double reference(double lat, int dayOfYear, int hour, double cloud) {
+        double declination = 23.45 * Math.sin(Math.toRadians(360.0 * (284 + dayOfYear) / 365.0));
+        double hourAngle = (hour - 12) * 15.0;
+        double sinElevation = Math.sin(Math.toRadians(lat)) * Math.sin(Math.toRadians(declination))
+                + Math.cos(Math.toRadians(lat)) * Math.cos(Math.toRadians(declination)) * Math.cos(Math.toRadians(hourAngle));
+        if (sinElevation <= 0) return 0.0;
+        return Math.round(3.6 * sinElevation * (1 - cloud / 10 * 0.7) * 100) / 100.0;
+    }
+
+    @Test
+    void matchesTrainingFormula() {
+        for (double lat : new double[]{33.5, 37.5665, 38.5}) {
+            for (int day = 1; day <= 366; day += 13) {
+                for (int hour = 0; hour < IrradianceEngine.HOURS; hour++) {
+                    for (double cloud : new double[]{0, 3, 7.5, 10}) {
+                        double sinElevation = IrradianceEngine.sinElevation(lat, day, hour);
+                        assertEquals(reference(lat, day, hour, cloud), IrradianceEngine.radiation(sinElevation, cloud), 1e-9,
+                                lat + " / " + day + " / " + hour + " / " + cloud);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void nightHasNoRadiationOrSunshine() {
+        double sinElevation = IrradianceEngine.sinElevation(37.5, 172, 0);
+        assertTrue(sinElevation < 0);
+        assertEquals(0.0, IrradianceEngine.radiation(sinElevation, 0));
+        assertEquals(0.0, IrradianceEngine.sunshine(sinElevation, 0));
+    }
+
+    // 구름 5 이하일 때만 일조 1시간
+    @Test
+    void sunshineCloudLimit() {
+        double noon = IrradianceEngine.sinElevation(37.5, 172, 12);
+        assertEquals(1.0, IrradianceEngine.sunshine(noon, 5));
+        assertEquals(0.0, IrradianceEngine.sunshine(noon, 5.5));
+    }
+
+    @Test
+    void hourlyMatchesSingleHours() {
+        double[] cloud = {0, 2, 4, 6, 8, 10, 10, 8, 6, 4, 2, 0, 0, 1};
+        double[] radiation = new double[cloud.length];
+        double[] sunshine = new double[cloud.length];
+        IrradianceEngine.hourly(36.35, 100, 6, cloud, radiation, sunshine);
+
+        for (int i = 0; i < cloud.length; i++) {
+            double sinElevation = IrradianceEngine.sinElevation(36.35, 100, 6 + i);
+            assertEquals(IrradianceEngine.radiation(sinElevation, cloud[i]), radiation[i], 0.0, "radiation " + i);
+            assertEquals(IrradianceEngine.sunshine(sinElevation, cloud[i]), sunshine[i], 0.0, "sunshine " + i);
+        }
+    }
+
+    @Test
+    void hourlyWithConstantCloud() {
+        double[] expected = new double[14];
+        IrradianceEngine.hourly(35.18, 200, 6, new double[]{3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3}, expected, null);
+
+        double[] radiation = new double[14];
+        IrradianceEngine.hourly(35.18, 200, 6, 19, 3, radiation, null);
+        assertArrayEquals(expected, radiation);
+    }
+}
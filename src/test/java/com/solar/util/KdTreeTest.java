@@ -0,0 +1,61 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KdTreeTest {
+
+    // 한반도 범위의 무작위 지점에서 가까운 k개가 전수 비교 결과와 같은지
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(42);
+        int n = 2_000;
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        List<Integer> ids = new ArrayList<>(n);
+        double latSum = 0;
+        for (int i = 0; i < n; i++) {
+            lats[i] = 33 + random.nextDouble() * 6;
+            lons[i] = 124 + random.nextDouble() * 8;
+            ids.add(i);
+            latSum += lats[i];
+        }
+        KdTree<Integer> tree = new KdTree<>(lats, lons, ids);
+        double lonScale = Math.cos(Math.toRadians(latSum / n)); // 트리와 같은 평면 근사 거리
+
+        for (int q = 0; q < 500; q++) {
+            double lat = 32.5 + random.nextDouble() * 7;
+            double lon = 123.5 + random.nextDouble() * 9;
+            int k = 1 + random.nextInt(8);
+
+            List<Integer> expected = new ArrayList<>(ids);
+            expected.sort(Comparator.comparingDouble(i -> {
+                double dx = (lons[i] - lon) * lonScale;
+                double dy = lats[i] - lat;
+                return dx * dx + dy * dy;
+            }));
+            assertEquals(expected.subList(0, k), tree.nearest(lat, lon, k), "query " + q);
+        }
+    }
+
+    @Test
+    void kLargerThanSizeReturnsAll() {
+        KdTree<String> tree = new KdTree<>(new double[]{37.5, 35.1, 33.5}, new double[]{127.0, 129.0, 126.5},
+                List.of("서울", "부산", "제주"));
+        assertEquals(List.of("부산", "서울", "제주"), tree.nearest(35.5, 128.8, 10));
+    }
+
+    @Test
+    void emptyTree() {
+        KdTree<String> tree = new KdTree<>(new double[0], new double[0], List.of());
+        assertEquals(0, tree.size());
+        assertTrue(tree.nearest(37.5, 127.0, 3).isEmpty());
+    }
+}
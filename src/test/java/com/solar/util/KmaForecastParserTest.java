@@ -0,0 +1,126 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KmaForecastParserTest {
+
+    private static String item(String category, String date, String time, String value) {
+        return "{\"baseDate\":\"20250101\",\"baseTime\":\"0500\",\"category\":\"" + category + "\",\"fcstDate\":\"" + date
+                + "\",\"fcstTime\":\"" + time + "\",\"fcstValue\":\"" + value + "\",\"nx\":60,\"ny\":127}";
+    }
+
+    private static KmaForecast parse(String resultCode, String items) throws IOException {
+        String json = "{\"response\":{\"header\":{\"resultCode\":\"" + resultCode + "\",\"resultMsg\":\"NORMAL_SERVICE\"},"
+                + "\"body\":{\"dataType\":\"JSON\",\"items\":" + items + ",\"totalCount\":1}}}";
+        return KmaForecastParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static KmaForecast parseItems(String... items) throws IOException {
+        return parse("00", "{\"item\":[" + String.join(",", items) + "]}");
+    }
+
+    // 같은 category 라도 칸마다 응답에 온 소수 자릿수 그대로 ("3" 과 "3.5" 가 섞여 와도 "3" 은 "3")
+    @Test
+    void keepsDecimalScalePerSlot() throws IOException {
+        KmaForecast forecast = parseItems(
+                item("WSD", "20250101", "0600", "3"),
+                item("WSD", "20250101", "0700", "3.5"),
+                item("WSD", "20250101", "0800", "3.0"),
+                item("TMP", "20250101", "0600", "-1.2"),
+                item("TMP", "20250101", "0700", "-0.5"),
+                item("TMP", "20250101", "0800", "30"));
+
+        assertTrue(forecast.isOk());
+        assertEquals(3, forecast.slotCount());
+        assertEquals("3", forecast.text(KmaCategory.WSD, 0));
+        assertEquals("3.5", forecast.text(KmaCategory.WSD, 1));
+        assertEquals("3.0", forecast.text(KmaCategory.WSD, 2));
+        assertEquals(3.5, forecast.value(KmaCategory.WSD, 1), 1e-6);
+        assertEquals("-1.2", forecast.text(KmaCategory.TMP, 0));
+        assertEquals("-0.5", forecast.text(KmaCategory.TMP, 1));
+        assertEquals("30", forecast.text(KmaCategory.TMP, 2));
+        assertEquals(-1.2, forecast.value(KmaCategory.TMP, 0), 1e-6);
+    }
+
+    // 강수량 범주 문자열은 text 로만, value 는 NaN
+    @Test
+    void textCategories() throws IOException {
+        KmaForecast forecast = parseItems(
+                item("PCP", "20250101", "0600", "강수없음"),
+                item("PCP", "20250101", "0700", "1mm 미만"),
+                item("PCP", "20250101", "0800", "2.5"),
+                item("SNO", "20250101", "0600", "적설없음"));
+
+        assertEquals("강수없음", forecast.text(KmaCategory.PCP, 0));
+        assertEquals("1mm 미만", forecast.text(KmaCategory.PCP, 1));
+        assertEquals("2.5", forecast.text(KmaCategory.PCP, 2));
+        assertTrue(Double.isNaN(forecast.value(KmaCategory.PCP, 0)));
+        assertEquals(2.5, forecast.value(KmaCategory.PCP, 2), 1e-6);
+        assertEquals("적설없음", forecast.text(KmaCategory.SNO, 0));
+        assertFalse(forecast.has(KmaCategory.SNO, 1));
+        assertNull(forecast.text(KmaCategory.SNO, 1));
+        assertNull(forecast.text(KmaCategory.TMP, 0));
+    }
+
+    // 같은 칸에 숫자가 나중에 오면 앞선 범주 문자열을 덮어씀
+    @Test
+    void numberOverwritesText() throws IOException {
+        KmaForecast forecast = parseItems(
+                item("PCP", "20250101", "0600", "강수없음"),
+                item("PCP", "20250101", "0600", "1.0"));
+        assertEquals("1.0", forecast.text(KmaCategory.PCP, 0));
+        assertEquals(1.0, forecast.value(KmaCategory.PCP, 0), 1e-6);
+    }
+
+    // 시각순이 아니어도 (날짜, 시각) 순으로 정렬된 슬롯, 모르는 category 는 건너뜀
+    @Test
+    void slotsAreSorted() throws IOException {
+        KmaForecast forecast = parseItems(
+                item("TMP", "20250102", "0000", "1"),
+                item("TMP", "20250101", "2300", "2"),
+                item("XYZ", "20250101", "2200", "9"),
+                item("TMP", "20250101", "0900", "3"));
+
+        assertEquals(3, forecast.slotCount());
+        assertEquals(20250101, forecast.slotDate(0));
+        assertEquals(900, forecast.slotTime(0));
+        assertEquals("0900", KmaForecast.timeText(forecast.slotTime(0)));
+        assertEquals(2, forecast.slotOf(20250102, 0));
+        assertEquals("2", forecast.text(KmaCategory.TMP, forecast.slotOf(20250101, 2300)));
+        assertEquals(-1, forecast.slotOf(20250101, 2200));
+    }
+
+    // 범주 문자열 사전(255개)이 가득 차면 그 칸은 값 없음 (숫자 0 으로 읽히지 않음)
+    @Test
+    void fullDictionaryLeavesSlotEmpty() throws IOException {
+        String[] items = new String[256];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = item("PCP", Integer.toString(20250101 + i / 24), String.format("%02d00", i % 24), "범주" + i);
+        }
+        KmaForecast forecast = parseItems(items);
+
+        assertEquals(256, forecast.slotCount());
+        assertEquals("범주254", forecast.text(KmaCategory.PCP, 254));
+        assertFalse(forecast.has(KmaCategory.PCP, 255));
+        assertNull(forecast.text(KmaCategory.PCP, 255));
+        assertTrue(Double.isNaN(forecast.value(KmaCategory.PCP, 255)));
+    }
+
+    // 결과가 없으면 items 가 "" 로 옴
+    @Test
+    void errorResponse() throws IOException {
+        KmaForecast forecast = parse("03", "\"\"");
+        assertFalse(forecast.isOk());
+        assertEquals("03", forecast.getResultCode());
+        assertEquals(0, forecast.slotCount());
+    }
+}
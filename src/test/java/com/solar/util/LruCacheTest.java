@@ -0,0 +1,83 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LruCacheTest {
+
+    private static final Instant LATER = Instant.now().plusSeconds(3600);
+
+    // 가득 차면 가장 오래 쓰이지 않은 항목부터 퇴출 (get 하면 최근 사용으로 이동)
+    @Test
+    void evictsLeastRecentlyUsed() {
+        LruCache<String, Integer> cache = new LruCache<>(3);
+        cache.put("a", 1, LATER);
+        cache.put("b", 2, LATER);
+        cache.put("c", 3, LATER);
+
+        assertEquals(1, cache.get("a")); // 순서: b, c, a
+        cache.put("d", 4, LATER);         // b 퇴출
+
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(4, cache.get("d"));
+
+        cache.put("e", 5, LATER);         // 순서: a, c, d → a 퇴출
+        assertNull(cache.get("a"));
+        assertEquals(3, cache.size());
+        assertEquals(2L, cache.snapshot().get("evictions"));
+    }
+
+    // 같은 키를 다시 넣으면 값만 바뀌고 퇴출 없음
+    @Test
+    void putSameKeyReplaces() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1, LATER);
+        cache.put("b", 2, LATER);
+        cache.put("a", 10, LATER);
+
+        assertEquals(2, cache.size());
+        assertEquals(10, cache.get("a"));
+        assertEquals(2, cache.get("b"));
+        assertEquals(0L, cache.snapshot().get("evictions"));
+    }
+
+    // 가득 찼을 때는 만료된 항목을 먼저 비우고, 그래도 넘칠 때만 퇴출
+    @Test
+    void expiredEntriesGoBeforeEviction() throws InterruptedException {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("old", 1, LATER);
+        cache.put("soon", 2, Instant.now().plusMillis(20));
+        Thread.sleep(40);
+        cache.put("new", 3, LATER);
+
+        assertEquals(1, cache.get("old"));
+        assertEquals(3, cache.get("new"));
+        Map<String, Object> stats = cache.snapshot();
+        assertEquals(0L, stats.get("evictions"));
+        assertEquals(1L, stats.get("expirations"));
+    }
+
+    @Test
+    void expiredEntryIsMiss() throws InterruptedException {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1, Instant.now().plusMillis(20));
+        cache.put("past", 2, Instant.now().minusSeconds(1)); // 이미 만료된 값은 저장하지 않음
+        Thread.sleep(40);
+
+        assertNull(cache.get("a"));
+        assertNull(cache.get("past"));
+        assertEquals(0, cache.size());
+
+        Map<String, Object> stats = cache.snapshot();
+        assertEquals(0L, stats.get("hits"));
+        assertEquals(2L, stats.get("misses"));
+        assertEquals(1L, stats.get("expirations"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixIndexTest {
+
+    private static final List<String> NAMES = List.of("종로구", "중구", "중랑구", "정선군", "제주시", "서귀포시", "서구");
+
+    private static List<String> keys(List<PrefixIndex.Match<String>> matches) {
+        return matches.stream().map(PrefixIndex.Match::key).toList();
+    }
+
+    @Test
+    void choseong() {
+        assertEquals("ㅈㄹㄱ", Hangul.choseong("종로구"));
+        assertEquals("ㅆㄷ", Hangul.choseong("쌍동"));
+        assertEquals("ㅅㅇ 1ㄷ", Hangul.choseong("서울 1동")); // 한글이 아닌 글자는 그대로
+        assertEquals("", Hangul.choseong(""));
+    }
+
+    @Test
+    void isChoseongOnly() {
+        assertTrue(Hangul.isChoseongOnly("ㅈㄹ"));
+        assertTrue(Hangul.isChoseongOnly("ㄲ"));
+        assertFalse(Hangul.isChoseongOnly("종ㄹ"));
+        assertFalse(Hangul.isChoseongOnly("ㅏ")); // 모음
+        assertFalse(Hangul.isChoseongOnly(""));
+    }
+
+    @Test
+    void namePrefixInLexicalOrder() {
+        PrefixIndex.Builder<String> builder = PrefixIndex.builder();
+        NAMES.forEach(name -> builder.add(name, name));
+        PrefixIndex<String> index = builder.build();
+
+        assertEquals(List.of("중구", "중랑구"), keys(index.search("중", 10)));
+        assertEquals(List.of("서구", "서귀포시"), keys(index.search("서", 10)));
+        assertEquals(List.of("제주시"), keys(index.search("제주시", 10)));
+        assertTrue(index.search("부산", 10).isEmpty());
+        assertTrue(index.search("", 10).isEmpty());
+    }
+
+    @Test
+    void choseongPrefix() {
+        PrefixIndex.Builder<String> builder = PrefixIndex.builder();
+        NAMES.forEach(name -> builder.add(Hangul.choseong(name), name));
+        PrefixIndex<String> index = builder.build();
+
+        assertEquals(List.of("ㅈㄱ", "ㅈㄹㄱ", "ㅈㄹㄱ", "ㅈㅅㄱ", "ㅈㅈㅅ"), keys(index.search("ㅈ", 10)));
+        assertEquals(List.of("종로구", "중랑구"), index.search("ㅈㄹ", 10).stream().map(PrefixIndex.Match::value).sorted().toList());
+        assertEquals(List.of("ㅅㄱ", "ㅅㄱㅍㅅ"), keys(index.search("ㅅㄱ", 10)));
+    }
+
+    @Test
+    void searchStopsAtMax() {
+        PrefixIndex.Builder<String> builder = PrefixIndex.builder();
+        NAMES.forEach(name -> builder.add(name, name));
+        builder.add(null, "무시").add("", "무시");
+        PrefixIndex<String> index = builder.build();
+
+        assertEquals(NAMES.size(), index.size());
+        assertEquals(1, index.search("중", 1).size());
+    }
+}
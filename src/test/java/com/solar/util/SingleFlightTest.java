@@ -0,0 +1,154 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private static final long WAIT_SECONDS = 5;
+
+    // 같은 키를 동시에 요청하면 한 번만 계산하고 결과를 함께 받음
+    @Test
+    void coalescesConcurrentCalls() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flights.execute("key", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "value";
+        }));
+        assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> flights.execute("key", () -> {
+            calls.incrementAndGet();
+            return "other";
+        }));
+        Thread.sleep(100); // follower 가 선두 계산에 합류할 시간
+        release.countDown();
+
+        assertEquals("value", leader.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("value", follower.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    // 선두 요청이 취소(인터럽트)되어 null 을 반환하면, 기다리던 요청은 그 null 대신 다시 계산한 값을 받음
+    @Test
+    void followerRetriesWhenLeaderIsInterrupted() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<String> leaderResult = new AtomicReference<>("unset");
+
+        // ForecastCache.load 처럼 인터럽트를 잡아 플래그만 남기고 null 을 반환하는 계산
+        Thread leader = new Thread(() -> leaderResult.set(flights.execute("key", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+                return "slow";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        })));
+        leader.start();
+        assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> flights.execute("key", () -> {
+            calls.incrementAndGet();
+            return "fresh";
+        }));
+        Thread.sleep(100);
+        leader.interrupt();
+        leader.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+
+        assertNull(leaderResult.get());
+        assertEquals("fresh", follower.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+    }
+
+    // 기다리던 요청이 취소되면 선두 계산이 끝날 때까지 붙잡히지 않고 바로 빠져나감
+    @Test
+    void interruptedFollowerStopsWaiting() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flights.execute("key", () -> {
+            started.countDown();
+            await(release);
+            return "value";
+        }));
+        assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        AtomicBoolean stillInterrupted = new AtomicBoolean();
+        Thread follower = new Thread(() -> {
+            try {
+                flights.execute("key", () -> "other");
+            } catch (Throwable t) {
+                thrown.set(t);
+                stillInterrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        follower.start();
+        Thread.sleep(100);
+        follower.interrupt();
+        follower.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+
+        assertTrue(thrown.get() instanceof CancellationException, "thrown: " + thrown.get());
+        assertTrue(stillInterrupted.get());
+
+        release.countDown();
+        assertEquals("value", leader.get(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    // 취소가 아닌 실패는 기다리던 요청에도 그대로 전달
+    @Test
+    void failureIsShared() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flights.execute("key", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("upstream down");
+        }));
+        assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> {
+            try {
+                return flights.execute("key", () -> "other");
+            } catch (IllegalStateException e) {
+                return e.getMessage();
+            }
+        });
+        Thread.sleep(100);
+        release.countDown();
+
+        assertEquals("upstream down", follower.get(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(leader.handle((value, error) -> error != null).get(WAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.solar.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolarPositionTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final double SEOUL_LAT = 37.5665;
+    private static final double SEOUL_LON = 126.9780;
+
+    // 한국천문연구원 / NOAA Solar Calculator 의 서울 일출·일몰 (1분 단위 발표값, 2분 안쪽이면 통과)
+    @Test
+    void seoulSunTimes() {
+        assertSunTimes(LocalDate.of(2024, 6, 21), "05:11", "19:57");  // 하지
+        assertSunTimes(LocalDate.of(2024, 12, 21), "07:43", "17:17"); // 동지
+        assertSunTimes(LocalDate.of(2024, 3, 20), "06:35", "18:43");  // 춘분
+    }
+
+    // 남중 고도 = 90 - 위도 + 적위 (하지 +23.44, 동지 -23.44, 춘분 약 0)
+    @Test
+    void seoulNoonElevation() {
+        assertEquals(75.87, maxElevation(LocalDate.of(2024, 6, 21)), 0.1);
+        assertEquals(28.99, maxElevation(LocalDate.of(2024, 12, 21)), 0.1);
+        assertEquals(52.43, maxElevation(LocalDate.of(2024, 3, 20)), 0.2);
+    }
+
+    @Test
+    void sunIsDownAtMidnight() {
+        ZonedDateTime midnight = LocalDate.of(2024, 6, 21).atStartOfDay(KST);
+        assertTrue(SolarPosition.sinElevation(SEOUL_LAT, SEOUL_LON, midnight) < 0);
+    }
+
+    // 트롬쇠(북위 69.65도) 하지는 백야, 동지는 극야
+    @Test
+    void polarDayAndNight() {
+        ZoneId oslo = ZoneId.of("Europe/Oslo");
+        SolarPosition.SunTimes summer = SolarPosition.sunTimes(69.65, 18.96, LocalDate.of(2024, 6, 21), oslo);
+        SolarPosition.SunTimes winter = SolarPosition.sunTimes(69.65, 18.96, LocalDate.of(2024, 12, 21), oslo);
+        assertNull(summer.sunrise());
+        assertNull(summer.sunset());
+        assertNull(winter.sunrise());
+        assertNull(winter.sunset());
+    }
+
+    private static void assertSunTimes(LocalDate date, String sunrise, String sunset) {
+        SolarPosition.SunTimes times = SolarPosition.sunTimes(SEOUL_LAT, SEOUL_LON, date, KST);
+        assertNear(date.atTime(LocalTime.parse(sunrise)).atZone(KST), times.sunrise());
+        assertNear(date.atTime(LocalTime.parse(sunset)).atZone(KST), times.sunset());
+    }
+
+    private static void assertNear(ZonedDateTime expected, ZonedDateTime actual) {
+        long seconds = Math.abs(Duration.between(expected, actual).toSeconds());
+        assertTrue(seconds <= 120, "expected " + expected + " but was " + actual);
+    }
+
+    // 10:00 ~ 15:00 을 1분 간격으로 훑은 최대 고도각 (도)
+    private static double maxElevation(LocalDate date) {
+        double best = -1;
+        ZonedDateTime time = date.atTime(10, 0).atZone(KST);
+        for (int minute = 0; minute <= 300; minute++) {
+            best = Math.max(best, SolarPosition.sinElevation(SEOUL_LAT, SEOUL_LON, time.plusMinutes(minute)));
+        }
+        return Math.toDegrees(Math.asin(best));
+    }
+}
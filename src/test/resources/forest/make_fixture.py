@@ -0,0 +1,110 @@
+import os
+import struct
+
+# ==================================================================================
+# [테스트 모델 만들기] ForestModelTest 용 작은 포레스트(fixture.bin)와 기대값
+# ==================================================================================
+# export_model.py 와 같은 파일 구조(SRF1)로, sklearn tree_ 배열 모양 그대로 나무 3그루를 직접 만들어 저장합니다.
+# 기대값은 sklearn predict 와 같은 규칙으로 계산합니다.
+#   - 입력을 float32 로 바꾼 뒤 float64 threshold 와 비교 (X[feature] <= threshold 이면 왼쪽)
+#   - 나무 순서대로 잎 값을 더한 뒤 나무 수로 나눔
+# 분기 기준에 0.1(float64)과 float32(0.1) 을 함께 넣어, 입력을 double 로 비교하면 결과가 달라지는 경우를 확인합니다.
+
+LEAF = -1
+LEAF_FEATURE = -2
+LEAF_THRESHOLD = -2.0
+
+
+def f32(x):
+    return struct.unpack('<f', struct.pack('<f', x))[0]
+
+
+def split(feature, threshold, left, right):
+    return (feature, threshold, left, right, 0.0)
+
+
+def leaf(value):
+    return (LEAF_FEATURE, LEAF_THRESHOLD, LEAF, LEAF, value)
+
+
+N_FEATURES = 3
+
+# 나무별 노드 (feature, threshold, left, right, value) — 자식 번호는 나무 안에서의 번호
+TREES = [
+    [
+        split(0, 0.1, 1, 2),
+        leaf(0.25),
+        split(1, 12.75, 3, 4),
+        leaf(0.5),
+        leaf(0.875),
+    ],
+    [
+        split(0, f32(0.1), 1, 2),
+        leaf(1 / 3),
+        split(2, -1.5, 3, 4),
+        leaf(0.1),
+        leaf(0.7),
+    ],
+    [
+        leaf(0.2),
+    ],
+]
+
+ROWS = [
+    [0.1, 12.75, -1.5],
+    [0.05, 0.0, 0.0],
+    [0.1, 13.0, -2.0],
+    [0.2, 1.0, -1.5],
+    [0.2, 1.0, -1.49],
+]
+
+
+def _pad(f):
+    remainder = f.tell() % 8
+    if remainder:
+        f.write(b'\x00' * (8 - remainder))
+
+
+def export(save_path):
+    roots, nodes = [], []
+    for tree in TREES:
+        offset = len(nodes)
+        roots.append(offset)
+        for feature, threshold, left, right, value in tree:
+            # 자식 번호를 전체 배열 기준(절대 번호)으로 변환, 잎 노드(-1)는 그대로 유지
+            nodes.append((feature, threshold,
+                          left + offset if left >= 0 else LEAF,
+                          right + offset if right >= 0 else LEAF,
+                          value))
+
+    n = len(nodes)
+    with open(save_path, 'wb') as f:
+        f.write(b'SRF1')
+        f.write(struct.pack('<iiii', 1, N_FEATURES, len(TREES), n))
+        for fmt, column in (('i', roots),
+                            ('i', [node[0] for node in nodes]),
+                            ('d', [node[1] for node in nodes]),
+                            ('i', [node[2] for node in nodes]),
+                            ('i', [node[3] for node in nodes]),
+                            ('d', [node[4] for node in nodes])):
+            _pad(f)
+            f.write(struct.pack(f'<{len(column)}{fmt}', *column))
+
+
+def predict(row):
+    x = [f32(v) for v in row]
+    total = 0.0
+    for tree in TREES:
+        node = 0
+        while tree[node][2] != LEAF:
+            feature, threshold, left, right, _ = tree[node]
+            node = left if x[feature] <= threshold else right
+        total += tree[node][4]
+    return total / len(TREES)
+
+
+if __name__ == "__main__":
+    current_folder = os.path.dirname(os.path.abspath(__file__))
+    export(os.path.join(current_folder, 'fixture.bin'))
+    for row in ROWS:
+        print(row, repr(predict(row)))
@@ -0,0 +1,43 @@
+import json
+import sys
+import time
+
+# ==================================================================================
+# [가짜 예측 워커] PythonWorkerPoolTest 용, predict_worker.py 와 같은 한 줄 JSON 규약
+# ==================================================================================
+# - 예측값은 행의 합입니다. (모델 없이 바로 준비 완료)
+# - 첫 행의 첫 값으로 동작을 바꿉니다.
+#     -1 : 2초 뒤에 응답 (응답 시간 초과)
+#     -2 : 응답 없이 종료 (워커 비정상 종료)
+#     -3 : 이전 요청 id 의 응답을 먼저 보낸 뒤 진짜 응답 (늦은 응답 걸러내기)
+
+SLOW = -1
+CRASH = -2
+STALE_FIRST = -3
+
+
+def reply(message):
+    sys.stdout.write(json.dumps(message) + "\n")
+    sys.stdout.flush()
+
+
+def main():
+    reply({"ready": True})
+    for line in sys.stdin:
+        line = line.strip()
+        if not line:
+            continue
+        request = json.loads(line)
+        rows = request["rows"]
+        marker = rows[0][0]
+        if marker == SLOW:
+            time.sleep(2)
+        elif marker == CRASH:
+            sys.exit(3)
+        elif marker == STALE_FIRST:
+            reply({"id": request["id"] - 1, "predictions": [999.0] * len(rows)})
+        reply({"id": request["id"], "predictions": [float(sum(row)) for row in rows]})
+
+
+if __name__ == '__main__':
+    main()
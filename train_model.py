@@ -79,6 +79,10 @@ def train_solar_model():
     save_path = os.path.join(current_folder, 'data', 'solar_model.pkl')
     joblib.dump(model, save_path)
     print(f"\n💾 모델이 저장되었습니다: {save_path}")
+
+    # Java 서버가 파이썬 없이 바로 읽을 수 있는 형식으로도 함께 저장 (data/solar_model.bin)
+    from export_model import export_forest
+    export_forest(model, os.path.join(current_folder, 'data', 'solar_model.bin'))
     print("이제 이 파일만 있으면 언제든 발전량을 예측할 수 있습니다!")
 
 if __name__ == "__main__":